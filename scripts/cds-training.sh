@@ -0,0 +1,67 @@
+#!/bin/sh
+# AppCDS 학습 실행
+# 추출된 애플리케이션을 띄워 /api/v1/tasks/* 엔드포인트를 몇 차례 호출한 뒤 SIGTERM으로 종료하면,
+# JVM 종료 시점에 그때까지 로드된 클래스가 동적 CDS 아카이브로 저장된다.
+# 아카이브는 학습 때와 같은 jar 경로 / JVM 옵션으로 실행할 때만 사용된다.
+#
+# 사용법: scripts/cds-training.sh <추출된 app.jar> <아카이브 파일> [포트]
+# Alpine 이미지 빌드 단계에서도 실행되므로 POSIX sh + curl/wget만 사용한다.
+set -eu
+
+APP_JAR=$1
+ARCHIVE=$2
+PORT=${3:-18080}
+BASE_URL="http://127.0.0.1:${PORT}"
+JAVA_OPTS=${JAVA_OPTS:-"-XX:+UseZGC -XX:+ZGenerational -Xmx512m --enable-preview -Dspring.aot.enabled=true"}
+LOG_FILE=${TMPDIR:-/tmp}/cds-training.log
+
+http_get() {
+    if command -v curl >/dev/null 2>&1; then
+        curl -fsS -o /dev/null "$1"
+    else
+        wget -q -O /dev/null "$1"
+    fi
+}
+
+# shellcheck disable=SC2086
+java $JAVA_OPTS -XX:ArchiveClassesAtExit="$ARCHIVE" -jar "$APP_JAR" \
+    --server.port="$PORT" \
+    --virtual-thread.benchmark-jobs.store-path="${TMPDIR:-/tmp}/cds-training-runs.jsonl" \
+    >"$LOG_FILE" 2>&1 &
+PID=$!
+
+waited=0
+until http_get "$BASE_URL/actuator/health" 2>/dev/null; do
+    if ! kill -0 "$PID" 2>/dev/null || [ "$waited" -ge 120 ]; then
+        echo "학습 실행 기동 실패" >&2
+        cat "$LOG_FILE" >&2
+        kill "$PID" 2>/dev/null || true
+        exit 1
+    fi
+    waited=$((waited + 1))
+    sleep 1
+done
+
+# 요청 처리 경로(컨트롤러, 직렬화, 메트릭, 디스패처, 구조적 팬아웃)의 클래스를 모두 로드
+for round in 1 2 3; do
+    http_get "$BASE_URL/api/v1/tasks/sync?delay=10"
+    http_get "$BASE_URL/api/v1/tasks/async?delay=10"
+    http_get "$BASE_URL/api/v1/tasks/parallel?count=50&delay=10"
+    http_get "$BASE_URL/api/v1/tasks/virtual-threads?count=50&delay=10"
+    http_get "$BASE_URL/api/v1/tasks/parallel/stream?count=20&delay=10"
+    http_get "$BASE_URL/api/v1/tasks/complex?taskId=$round"
+    http_get "$BASE_URL/api/v1/tasks/complex/structured?taskId=$round"
+    http_get "$BASE_URL/api/v1/tasks/threads"
+    http_get "$BASE_URL/api/v1/tasks/health"
+    http_get "$BASE_URL/actuator/prometheus"
+done
+
+kill -TERM "$PID"
+wait "$PID" || true
+
+if [ ! -s "$ARCHIVE" ]; then
+    echo "CDS 아카이브가 생성되지 않았습니다: $ARCHIVE" >&2
+    cat "$LOG_FILE" >&2
+    exit 1
+fi
+echo "CDS 아카이브 생성: $ARCHIVE ($(du -h "$ARCHIVE" | cut -f1))"
@@ -0,0 +1,90 @@
+#!/usr/bin/env bash
+# 시작 성능 비교 - 최적화 조합별 첫 성공 요청까지의 시간(TTFR)과 유휴 RSS
+#
+#   baseline : fat jar를 그대로 실행 (현재 이미지와 같은 방식)
+#   aot      : 추출된 jar + Spring AOT 빈 정의 (-Dspring.aot.enabled=true)
+#   aot-cds  : aot + 학습 실행으로 만든 AppCDS 아카이브 (-XX:SharedArchiveFile)
+#
+# 사용법: ./gradlew bootJar && scripts/startup-benchmark.sh [모드별 반복 횟수]
+# 환경 변수: PORT(기본 18081), IDLE_SECONDS(RSS 측정 전 유휴 대기, 기본 5)
+# GNU date(밀리초 포맷)와 curl이 필요하다.
+set -euo pipefail
+
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+RUNS=${1:-5}
+PORT=${PORT:-18081}
+IDLE_SECONDS=${IDLE_SECONDS:-5}
+JAR="$ROOT/build/libs/virtual-thread-0.0.1-SNAPSHOT.jar"
+WORK="$ROOT/build/startup-benchmark"
+BASE_OPTS="-XX:+UseZGC -XX:+ZGenerational -Xmx512m --enable-preview"
+
+if [ ! -f "$JAR" ]; then
+    echo "$JAR 이 없습니다. 먼저 ./gradlew bootJar를 실행하세요." >&2
+    exit 1
+fi
+
+rm -rf "$WORK"
+mkdir -p "$WORK"
+
+# 이미지 빌드와 같은 절차로 jar 추출 + CDS 학습 실행
+java -Djarmode=tools -jar "$JAR" extract --destination "$WORK/application"
+APP_JAR="$WORK/application/$(basename "$JAR")"
+ARCHIVE="$WORK/application.jsa"
+JAVA_OPTS="$BASE_OPTS -Dspring.aot.enabled=true" "$ROOT/scripts/cds-training.sh" "$APP_JAR" "$ARCHIVE" "$PORT"
+
+now_ms() {
+    date +%s%3N
+}
+
+# 한 번 기동해 "TTFR(ms) RSS(KB)" 출력
+measure() {
+    local log_file=$1
+    shift
+    local start pid ttfr rss
+    start=$(now_ms)
+    java "$@" --server.port="$PORT" \
+        --virtual-thread.benchmark-jobs.store-path="$WORK/runs.jsonl" >"$log_file" 2>&1 &
+    pid=$!
+
+    until curl -fsS -o /dev/null "http://127.0.0.1:$PORT/api/v1/tasks/sync?delay=0" 2>/dev/null; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "기동 실패 - $log_file 참고" >&2
+            exit 1
+        fi
+        sleep 0.02
+    done
+    ttfr=$(($(now_ms) - start))
+
+    sleep "$IDLE_SECONDS"
+    rss=$(ps -o rss= -p "$pid" | tr -d ' ')
+
+    kill -TERM "$pid"
+    wait "$pid" || true
+    echo "$ttfr $rss"
+}
+
+run_mode() {
+    local mode=$1
+    shift
+    local result ttfr rss
+    for run in $(seq 1 "$RUNS"); do
+        result=$(measure "$WORK/$mode-$run.log" "$@")
+        read -r ttfr rss <<<"$result"
+        echo "$mode,$run,$ttfr,$rss" >>"$WORK/results.csv"
+        printf '%-9s #%-2d TTFR %6d ms  RSS %7d KB\n' "$mode" "$run" "$ttfr" "$rss"
+    done
+}
+
+echo "mode,run,ttfr_ms,rss_kb" >"$WORK/results.csv"
+# shellcheck disable=SC2086
+run_mode baseline $BASE_OPTS -jar "$JAR"
+# shellcheck disable=SC2086
+run_mode aot $BASE_OPTS -Dspring.aot.enabled=true -jar "$APP_JAR"
+# shellcheck disable=SC2086
+run_mode aot-cds $BASE_OPTS -Dspring.aot.enabled=true -XX:SharedArchiveFile="$ARCHIVE" -jar "$APP_JAR"
+
+echo
+echo "모드별 평균 (반복 $RUNS회, 결과: $WORK/results.csv)"
+awk -F, 'NR > 1 { n[$1]++; t[$1] += $3; r[$1] += $4 }
+    END { for (m in n) printf "%-9s TTFR %6.0f ms  RSS %7.1f MB\n", m, t[m] / n[m], r[m] / n[m] / 1024 }' \
+    "$WORK/results.csv" | sort
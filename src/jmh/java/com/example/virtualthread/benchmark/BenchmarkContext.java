@@ -0,0 +1,36 @@
+package com.example.virtualthread.benchmark;
+
+import com.example.virtualthread.VirtualThreadApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 벤치마크용 Spring 컨텍스트 (웹 서버 없이 서비스 빈만 기동)
+ */
+final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start() {
+        // 작업별 INFO 로그가 측정값을 지배하지 않도록 WARN으로 낮추고,
+        // 가장 큰 taskCount 파라미터가 수락 제어에 거절되지 않도록 한도를 높인다.
+        // 공정 디스패처는 끈다 - 실행 예산(1000)이 taskCount=10000의 동시 실행을 막아 이전 측정값과 비교할 수 없게 된다.
+        // 상시 JFR 기록, pinning 이벤트 스트림, 작업 이벤트 기록 스레드도 끈다 - 측정 대상이 아닌 백그라운드 비용이
+        // 측정값에 섞이지 않게 하기 위함 (작업 이벤트는 WARN 로그 레벨로 바로 기록되어 버려진다)
+        return new SpringApplicationBuilder(VirtualThreadApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                        "logging.level.com.example.virtualthread=WARN",
+                        "logging.level.root=WARN",
+                        "virtual-thread.admission.max-concurrent-tasks=20000",
+                        "virtual-thread.admission.max-fan-out=10000",
+                        "virtual-thread.fair-dispatch.enabled=false",
+                        "virtual-thread.jfr.enabled=false",
+                        "virtual-thread.pinning.enabled=false",
+                        "virtual-thread.task-events.enabled=false")
+                .run();
+    }
+}
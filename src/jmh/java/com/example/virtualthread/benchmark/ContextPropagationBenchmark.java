@@ -0,0 +1,145 @@
+package com.example.virtualthread.benchmark;
+
+import com.example.virtualthread.context.RequestContext;
+import com.example.virtualthread.context.RequestContexts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 컨텍스트 전파 비교 - 한 번의 연산은 threadCount개의 가상 스레드가 모두 컨텍스트를 읽고 끝나는 것
+ * <p>
+ * InheritableThreadLocal은 자식 스레드를 만들 때마다 부모의 ThreadLocalMap을 복사하므로
+ * 컨텍스트 값 수(contextValues)에 비례해 스레드당 할당이 늘어난다. ScopedValue는 바인딩 스냅샷을
+ * 공유만 하므로 구조적 서브태스크에서는 복사가 없다. 스레드당 할당량은 gc 프로파일러의
+ * gc.alloc.rate.norm을 threadCount로 나눠 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ContextPropagationBenchmark {
+
+    private static final RequestContext CONTEXT =
+            new RequestContext("bench", "/benchmark", RequestContext.NO_TASK, null);
+    private static final Object VALUE = new Object();
+
+    @Param({"100000", "1000000"})
+    private int threadCount;
+
+    /**
+     * 요청 컨텍스트 외에 함께 전파되는 값의 수 (MDC, 보안 컨텍스트, 트레이스 등을 모델링)
+     */
+    @Param({"0", "8"})
+    private int contextValues;
+
+    private List<InheritableThreadLocal<Object>> inheritedValues;
+    private List<ScopedValue<Object>> scopedValues;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        inheritedValues = new ArrayList<>(contextValues);
+        scopedValues = new ArrayList<>(contextValues);
+        for (int i = 0; i < contextValues; i++) {
+            inheritedValues.add(new InheritableThreadLocal<>());
+            scopedValues.add(ScopedValue.newInstance());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        RequestContexts.setMode(RequestContexts.Mode.SCOPED_VALUE);
+    }
+
+    /**
+     * THREAD_LOCAL 모드 - 가상 스레드 생성 시 InheritableThreadLocal 상속
+     */
+    @Benchmark
+    public long inheritableThreadLocal() throws Exception {
+        RequestContexts.setMode(RequestContexts.Mode.THREAD_LOCAL);
+        inheritedValues.forEach(local -> local.set(VALUE));
+        try {
+            return RequestContexts.callWith(CONTEXT, () -> {
+                LongAdder seen = new LongAdder();
+                try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                    for (int i = 0; i < threadCount; i++) {
+                        executor.execute(() -> read(seen));
+                    }
+                }
+                return seen.sum();
+            });
+        } finally {
+            inheritedValues.forEach(ThreadLocal::remove);
+        }
+    }
+
+    /**
+     * SCOPED_VALUE 모드 - 구조적 서브태스크가 바인딩을 복사 없이 상속
+     */
+    @Benchmark
+    public long scopedValueStructured() throws Exception {
+        RequestContexts.setMode(RequestContexts.Mode.SCOPED_VALUE);
+        return withScopedValues(() -> RequestContexts.callWith(CONTEXT, () -> {
+            LongAdder seen = new LongAdder();
+            try (var scope = new StructuredTaskScope.ShutdownOnFailure()) {
+                for (int i = 0; i < threadCount; i++) {
+                    scope.fork(() -> {
+                        read(seen);
+                        return null;
+                    });
+                }
+                scope.join().throwIfFailed();
+            }
+            return seen.sum();
+        }));
+    }
+
+    /**
+     * SCOPED_VALUE 모드 - 스레드를 직접 만드는 경로처럼 작업마다 캡처한 컨텍스트를 다시 바인딩
+     */
+    @Benchmark
+    public long scopedValueRebind() throws Exception {
+        RequestContexts.setMode(RequestContexts.Mode.SCOPED_VALUE);
+        return withScopedValues(() -> RequestContexts.callWith(CONTEXT, () -> {
+            LongAdder seen = new LongAdder();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < threadCount; i++) {
+                    executor.execute(RequestContexts.wrap(() -> read(seen)));
+                }
+            }
+            return seen.sum();
+        }));
+    }
+
+    private long withScopedValues(Callable<Long> call) throws Exception {
+        if (scopedValues.isEmpty()) {
+            return call.call();
+        }
+        ScopedValue.Carrier carrier = ScopedValue.where(scopedValues.get(0), VALUE);
+        for (int i = 1; i < scopedValues.size(); i++) {
+            carrier = carrier.where(scopedValues.get(i), VALUE);
+        }
+        return carrier.call(call);
+    }
+
+    private static void read(LongAdder seen) {
+        if (RequestContexts.current().requestId() != null) {
+            seen.increment();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.virtualthread.benchmark;
+
+import com.example.virtualthread.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 팬아웃 실행 전략 비교 - 한 번의 연산은 taskCount개의 작업을 모두 완료하는 것
+ * <p>
+ * 서비스 경로(@Async Executor, 직접 생성)와 두 가지 기준선(고정 플랫폼 스레드 풀, 순수 가상 스레드 Executor)을
+ * 같은 파라미터로 측정한다. 할당률은 gc 프로파일러(build.gradle)로 함께 수집된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FanOutBenchmark {
+
+    /**
+     * Tomcat 기본 최대 스레드 수(server.tomcat.threads.max)와 같은 크기의 플랫폼 스레드 풀
+     */
+    private static final int PLATFORM_POOL_SIZE = 200;
+
+    @Param({"10", "100", "1000", "10000"})
+    private int taskCount;
+
+    @Param({"1", "10", "100"})
+    private int delayMillis;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private ExecutorService platformPool;
+    private ExecutorService virtualExecutor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        taskService = context.getBean(TaskService.class);
+        platformPool = Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+        virtualExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        platformPool.shutdownNow();
+        virtualExecutor.shutdownNow();
+        context.close();
+    }
+
+    @Benchmark
+    public void processParallelTasks(Blackhole blackhole) {
+        blackhole.consume(taskService.processParallelTasks(taskCount, delayMillis));
+    }
+
+    @Benchmark
+    public void createVirtualThreadsDirectly(Blackhole blackhole) {
+        blackhole.consume(taskService.createVirtualThreadsDirectly(taskCount, delayMillis));
+    }
+
+    @Benchmark
+    public void platformThreadPoolBaseline(Blackhole blackhole) throws Exception {
+        runAll(platformPool, blackhole);
+    }
+
+    @Benchmark
+    public void virtualThreadPerTaskBaseline(Blackhole blackhole) throws Exception {
+        runAll(virtualExecutor, blackhole);
+    }
+
+    private void runAll(ExecutorService executor, Blackhole blackhole)
+            throws InterruptedException, ExecutionException {
+        List<Future<Integer>> futures = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            int taskId = i;
+            futures.add(executor.submit(() -> {
+                Thread.sleep(delayMillis);
+                return taskId;
+            }));
+        }
+        for (Future<Integer> future : futures) {
+            blackhole.consume(future.get());
+        }
+    }
+}
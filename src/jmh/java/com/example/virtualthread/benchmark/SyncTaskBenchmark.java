@@ -0,0 +1,55 @@
+package com.example.virtualthread.benchmark;
+
+import com.example.virtualthread.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동기 처리 기준선 - 호출 스레드에서 taskCount개의 작업을 순차 실행
+ * <p>
+ * 순차 실행 비용이 taskCount * delay에 비례하므로 팬아웃 벤치마크보다 작은 범위만 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SyncTaskBenchmark {
+
+    @Param({"10", "50"})
+    private int taskCount;
+
+    @Param({"1", "10"})
+    private int delayMillis;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        taskService = context.getBean(TaskService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void processSyncTask(Blackhole blackhole) {
+        for (int i = 0; i < taskCount; i++) {
+            blackhole.consume(taskService.processSyncTask(i, delayMillis));
+        }
+    }
+}
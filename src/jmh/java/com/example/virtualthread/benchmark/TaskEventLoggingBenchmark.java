@@ -0,0 +1,168 @@
+package com.example.virtualthread.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.FileAppender;
+import com.example.virtualthread.config.TaskEventLogProperties;
+import com.example.virtualthread.eventlog.TaskEventLog;
+import com.example.virtualthread.eventlog.TaskEventType;
+import com.example.virtualthread.service.TaskService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 작업별 로그 비용 - 동기 logback 파일 appender와 작업 이벤트 로그(링 버퍼 + 단일 기록 스레드)의 작업 처리량 비교
+ * <p>
+ * 가상 스레드 작업마다 시작/완료 로그 두 건을 남긴다. logback 경로는 이벤트 로그 도입 전 TaskService의
+ * 호출({@code log.info("[동기 작업 {}] 시작 - 스레드: {}", taskId, Thread.currentThread().toString())})을
+ * 그대로 재현하여 작업 ID와 스레드 문자열 포맷 비용까지 포함한다. 처리량 단위는 초당 작업 수이고, 이벤트 로그
+ * 경로에서 버퍼가 가득 차서 버린 이벤트 수는 보조 카운터 {@code droppedEvents}로 결과 표에 함께 나온다
+ * (버린 만큼 처리량이 부풀려짐).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TaskEventLoggingBenchmark {
+
+    private static final int TASKS_PER_INVOCATION = 1000;
+
+    @Param({"logback", "event-log"})
+    private String pipeline;
+
+    /**
+     * 작업 하나가 로그 외에 소비하는 CPU 양 (Blackhole.consumeCPU 토큰)
+     */
+    @Param({"0", "1000"})
+    private int workTokens;
+
+    private Path directory;
+    private LoggerContext loggerContext;
+    private Logger taskLogger;
+    private boolean eventLogPipeline;
+    private SimpleMeterRegistry meterRegistry;
+    private TaskEventLog eventLog;
+    private ExecutorService executor;
+    private double droppedSeen;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("task-event-benchmark");
+        loggerContext = configureFileLogging(directory.resolve("application.log"));
+        taskLogger = loggerContext.getLogger(TaskService.class);
+        eventLogPipeline = "event-log".equals(pipeline);
+
+        meterRegistry = new SimpleMeterRegistry();
+        eventLog = new TaskEventLog(new TaskEventLogProperties(eventLogPipeline,
+                directory.resolve("task-events.log").toString(), 65536, 4096, Duration.ofMillis(1),
+                -1, Map.of()), meterRegistry);
+        eventLog.start();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        executor.close();
+        eventLog.stop();
+        loggerContext.reset();
+
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS_PER_INVOCATION)
+    public void tasks(DroppedEvents dropped) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(TASKS_PER_INVOCATION);
+        for (int i = 0; i < TASKS_PER_INVOCATION; i++) {
+            int taskId = i;
+            executor.execute(() -> {
+                if (eventLogPipeline) {
+                    eventLog.record(TaskEventType.SYNC_STARTED, taskId, workTokens);
+                    Blackhole.consumeCPU(workTokens);
+                    eventLog.record(TaskEventType.SYNC_COMPLETED, taskId, workTokens);
+                } else {
+                    taskLogger.info("[동기 작업 {}] 시작 - 스레드: {}", taskId, Thread.currentThread().toString());
+                    Blackhole.consumeCPU(workTokens);
+                    taskLogger.info("[동기 작업 {}] 완료", taskId);
+                }
+                done.countDown();
+            });
+        }
+        done.await();
+
+        // 버퍼가 가득 차면 record()를 호출한 작업 스레드에서 바로 버리므로 done 이후에는 이번 호출분이 모두 반영됨
+        double total = meterRegistry.find("task.events.dropped").counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+        dropped.droppedEvents += total - droppedSeen;
+        droppedSeen = total;
+    }
+
+    /**
+     * 반복(iteration)마다 버린 이벤트 수 - JMH 결과에 보조 지표로 출력
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class DroppedEvents {
+
+        public double droppedEvents;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            droppedEvents = 0;
+        }
+    }
+
+    /**
+     * 앱의 기본 파일 로그와 같은 형태(시각, 레벨, 스레드, 로거, 메시지)로 동기 기록하는 logback 설정
+     */
+    private static LoggerContext configureFileLogging(Path file) {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%15.15t] %-40.40logger{39} : %m%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setFile(file.toString());
+        appender.setEncoder(encoder);
+        appender.start();
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(ch.qos.logback.classic.Level.INFO);
+        root.addAppender(appender);
+        return context;
+    }
+}
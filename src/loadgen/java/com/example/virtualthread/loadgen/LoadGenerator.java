@@ -0,0 +1,300 @@
+package com.example.virtualthread.loadgen;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 개방형(open model) 부하 생성기
+ * <p>
+ * 응답 여부와 관계없이 고정된 도착률로 요청을 보내고, 요청마다 가상 스레드 하나를 사용한다.
+ * 지연은 실제 전송 시각이 아닌 의도된 전송 시각부터 측정하므로 서버가 밀려 전송이 늦어진 시간까지
+ * 포함된다 (coordinated omission 보정).
+ * <p>
+ * 서버 메트릭 측정이 켜져 있으면 단계마다 대상 서버의 actuator 메트릭으로 요청당 CPU 시간과 할당량,
+ * 진행 중 요청당 힙 증가량을 함께 보고한다 (서블릿 / reactive 스택 비교용).
+ * <p>
+ * 실행: ./gradlew loadTest -Ploadgen.rates=100,200,400 -Ploadgen.p99TargetMillis=300
+ */
+public class LoadGenerator {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final LoadGeneratorOptions options;
+    private final HttpClient client;
+    private final ServerMetricsProbe probe;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public LoadGenerator(LoadGeneratorOptions options) {
+        this.options = options;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(options.requestTimeout())
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.probe = options.serverMetrics()
+                ? new ServerMetricsProbe(client, options.baseUrl(), options.requestTimeout())
+                : null;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadGeneratorOptions options = LoadGeneratorOptions.fromSystemProperties();
+        LoadGenerator generator = new LoadGenerator(options);
+
+        List<StageResult> results = generator.run();
+        generator.report(results, System.out);
+    }
+
+    public List<StageResult> run() throws InterruptedException {
+        System.out.printf("대상: %s, 경로: %s%n", options.baseUrl(), options.paths());
+
+        if (!options.warmup().isZero()) {
+            System.out.printf("워밍업 %ds (%d req/s)%n", options.warmup().toSeconds(), options.stageRates().get(0));
+            runStage(options.stageRates().get(0), options.warmup());
+        }
+
+        List<StageResult> results = new ArrayList<>();
+        for (int rate : options.stageRates()) {
+            System.out.printf("단계 시작 - %d req/s, %ds%n", rate, options.stageDuration().toSeconds());
+            results.add(runStage(rate, options.stageDuration()));
+        }
+        return results;
+    }
+
+    private StageResult runStage(int ratePerSecond, Duration duration) throws InterruptedException {
+        Map<String, Recorder> recorders = new LinkedHashMap<>();
+        Map<String, LongAdder> errors = new LinkedHashMap<>();
+        for (String path : options.paths()) {
+            recorders.put(path, new Recorder(3));
+            errors.put(path, new LongAdder());
+        }
+
+        long intervalNanos = 1_000_000_000L / ratePerSecond;
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + duration.toNanos();
+        long maxSendLagNanos = 0;
+
+        ServerMetricsProbe.Snapshot before = serverSnapshot();
+        ServerSampler sampler = before != null ? ServerSampler.start(this, options.serverSampleInterval()) : null;
+
+        // close()는 진행 중인 요청이 모두 끝날 때까지(최대 요청 타임아웃) 대기
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long intendedNanos = startNanos + i * intervalNanos;
+                if (intendedNanos >= endNanos) {
+                    break;
+                }
+
+                long waitNanos = intendedNanos - System.nanoTime();
+                if (waitNanos > 0) {
+                    LockSupport.parkNanos(waitNanos);
+                } else {
+                    maxSendLagNanos = Math.max(maxSendLagNanos, -waitNanos);
+                }
+
+                String path = options.paths().get((int) (i % options.paths().size()));
+                executor.execute(() -> send(path, intendedNanos, recorders.get(path), errors.get(path)));
+            }
+        }
+        if (sampler != null) {
+            sampler.stop();
+        }
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        Map<String, Histogram> histograms = new LinkedHashMap<>();
+        Map<String, Long> errorCounts = new LinkedHashMap<>();
+        recorders.forEach((path, recorder) -> histograms.put(path, recorder.getIntervalHistogram()));
+        errors.forEach((path, count) -> errorCounts.put(path, count.sum()));
+
+        ServerStats server = null;
+        ServerMetricsProbe.Snapshot after = sampler != null ? serverSnapshot() : null;
+        if (after != null) {
+            long requests = histograms.values().stream().mapToLong(Histogram::getTotalCount).sum();
+            server = ServerStats.of(before, after, requests, sampler.averageHeapBytes(), sampler.averageInFlight());
+        }
+
+        return new StageResult(ratePerSecond, elapsedNanos, maxSendLagNanos, histograms, errorCounts, server);
+    }
+
+    /**
+     * 서버 메트릭 스냅샷 - 측정이 꺼져 있거나 actuator 메트릭을 읽을 수 없으면 null
+     */
+    private ServerMetricsProbe.Snapshot serverSnapshot() throws InterruptedException {
+        if (probe == null) {
+            return null;
+        }
+        try {
+            return probe.snapshot();
+        } catch (IOException e) {
+            System.out.printf("서버 메트릭을 읽을 수 없어 자원 사용량은 생략합니다: %s%n", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 단계 중 힙 사용량과 진행 중 요청 수를 주기적으로 샘플링하는 가상 스레드
+     */
+    private static final class ServerSampler {
+
+        private final LoadGenerator generator;
+        private final Duration interval;
+        private final Thread thread;
+        private double heapSum;
+        private long inFlightSum;
+        private int samples;
+
+        private ServerSampler(LoadGenerator generator, Duration interval) {
+            this.generator = generator;
+            this.interval = interval;
+            this.thread = Thread.ofVirtual().name("loadgen-server-sampler").unstarted(this::sampleLoop);
+        }
+
+        static ServerSampler start(LoadGenerator generator, Duration interval) {
+            ServerSampler sampler = new ServerSampler(generator, interval);
+            sampler.thread.start();
+            return sampler;
+        }
+
+        private void sampleLoop() {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    Thread.sleep(interval);
+                    double heap = generator.probe.heapUsedBytes();
+                    heapSum += heap;
+                    inFlightSum += generator.inFlight.get();
+                    samples++;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (IOException e) {
+                    // 일시적인 조회 실패는 해당 샘플만 건너뜀
+                }
+            }
+        }
+
+        void stop() throws InterruptedException {
+            thread.interrupt();
+            thread.join();
+        }
+
+        double averageHeapBytes() {
+            return samples == 0 ? 0 : heapSum / samples;
+        }
+
+        double averageInFlight() {
+            return samples == 0 ? 0 : (double) inFlightSum / samples;
+        }
+    }
+
+    private void send(String path, long intendedNanos, Recorder recorder, LongAdder errors) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(options.baseUrl() + path))
+                .timeout(options.requestTimeout())
+                .GET()
+                .build();
+        inFlight.incrementAndGet();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() >= 400) {
+                errors.increment();
+            }
+        } catch (IOException e) {
+            errors.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } finally {
+            inFlight.decrementAndGet();
+        }
+        recorder.recordValue((System.nanoTime() - intendedNanos) / 1000);
+    }
+
+    public void report(List<StageResult> results, PrintStream out) throws IOException {
+        Files.createDirectories(options.outputDir());
+
+        out.println();
+        out.printf("%-8s %-45s %8s %7s %10s %9s %9s %9s %9s %9s%n",
+                "rate", "endpoint", "count", "errors", "achieved", "p50(ms)", "p90(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        for (StageResult result : results) {
+            result.endpoints().forEach((path, histogram) ->
+                    printRow(out, result.targetRate(), path, histogram, result.errors().get(path),
+                            histogram.getTotalCount() / (result.elapsedNanos() / 1_000_000_000.0)));
+            printRow(out, result.targetRate(), "(total)", result.total(), result.totalErrors(), result.achievedRate());
+            if (result.maxSendLagNanos() > 0) {
+                out.printf("%-8s 전송 지연 최대 %.1fms (부하 생성기 자체 포화 여부 확인)%n",
+                        "", result.maxSendLagNanos() / 1_000_000.0);
+            }
+
+            try (PrintStream hgrm = new PrintStream(
+                    Files.newOutputStream(options.outputDir().resolve("stage-" + result.targetRate() + "rps.hgrm")))) {
+                result.total().outputPercentileDistribution(hgrm, MICROS_PER_MILLI);
+            }
+        }
+
+        if (results.stream().anyMatch(result -> result.server() != null)) {
+            out.println();
+            out.printf("%-8s %14s %16s %18s %12s%n",
+                    "rate", "cpu/req(ms)", "alloc/req(KB)", "heap/in-flight(KB)", "in-flight");
+            for (StageResult result : results) {
+                ServerStats server = result.server();
+                if (server != null) {
+                    out.printf("%-8d %14.3f %16.1f %18.1f %12.1f%n",
+                            result.targetRate(), server.cpuMillisPerRequest(), server.allocatedKbPerRequest(),
+                            server.heapKbPerInFlight(), server.averageInFlight());
+                }
+            }
+        }
+
+        // p99 목표와 오류율을 만족한 가장 높은 도착률 = 지속 가능 최대 처리량
+        StageResult sustainable = null;
+        for (StageResult result : results) {
+            boolean withinTarget = result.total().getValueAtPercentile(99.0) <= options.p99Target().toNanos() / 1000
+                    && result.errorRate() <= options.maxErrorRate();
+            if (!withinTarget) {
+                break;
+            }
+            sustainable = result;
+        }
+
+        out.println();
+        if (sustainable == null) {
+            out.printf("p99 <= %dms 를 만족하는 단계가 없습니다 (오류율 <= %.2f%%)%n",
+                    options.p99Target().toMillis(), options.maxErrorRate() * 100);
+        } else {
+            out.printf("지속 가능 최대 처리량: %d req/s (실측 %.1f req/s, p99 %.1fms <= %dms, 오류율 %.2f%%)%n",
+                    sustainable.targetRate(), sustainable.achievedRate(),
+                    sustainable.total().getValueAtPercentile(99.0) / MICROS_PER_MILLI,
+                    options.p99Target().toMillis(), sustainable.errorRate() * 100);
+        }
+        out.printf("백분위 분포: %s%n", options.outputDir().toAbsolutePath());
+    }
+
+    private static void printRow(PrintStream out, int rate, String path, Histogram histogram, long errors,
+                                 double achieved) {
+        out.printf("%-8d %-45s %8d %7d %10.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                rate, path, histogram.getTotalCount(), errors, achieved,
+                histogram.getValueAtPercentile(50.0) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(90.0) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99.0) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                histogram.getMaxValue() / MICROS_PER_MILLI);
+    }
+}
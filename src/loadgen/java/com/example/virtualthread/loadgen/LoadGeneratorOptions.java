@@ -0,0 +1,65 @@
+package com.example.virtualthread.loadgen;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 부하 생성기 설정 - 시스템 프로퍼티(loadgen.*)로 지정
+ *
+ * @param baseUrl        대상 서버 주소
+ * @param paths          요청 경로 목록 (도착 순서대로 라운드 로빈)
+ * @param stageRates     단계별 목표 도착률 (req/s) - 순서대로 증가시키며 측정
+ * @param stageDuration  단계별 측정 시간
+ * @param warmup         첫 단계 도착률로 실행 후 버리는 워밍업 시간
+ * @param requestTimeout 요청 타임아웃 (초과 시 오류로 집계)
+ * @param p99Target      지속 가능 처리량 판정 기준 p99 지연
+ * @param maxErrorRate   지속 가능 처리량 판정 기준 오류율
+ * @param outputDir      단계별 HdrHistogram 백분위 분포(.hgrm) 저장 경로
+ * @param serverMetrics  서버 actuator 메트릭으로 요청당 CPU/할당량, 진행 중 요청당 힙을 함께 측정
+ * @param serverSampleInterval 단계 중 힙 사용량과 진행 중 요청 수 샘플 간격
+ */
+public record LoadGeneratorOptions(
+        String baseUrl,
+        List<String> paths,
+        List<Integer> stageRates,
+        Duration stageDuration,
+        Duration warmup,
+        Duration requestTimeout,
+        Duration p99Target,
+        double maxErrorRate,
+        Path outputDir,
+        boolean serverMetrics,
+        Duration serverSampleInterval) {
+
+    private static final String DEFAULT_PATHS = String.join(",",
+            "/api/v1/tasks/sync?delay=100",
+            "/api/v1/tasks/async?delay=100",
+            "/api/v1/tasks/parallel?count=10&delay=100",
+            "/api/v1/tasks/complex");
+
+    public static LoadGeneratorOptions fromSystemProperties() {
+        return new LoadGeneratorOptions(
+                System.getProperty("loadgen.baseUrl", "http://localhost:8080"),
+                split(System.getProperty("loadgen.paths", DEFAULT_PATHS)),
+                split(System.getProperty("loadgen.rates", "50,100,200,400,800")).stream()
+                        .map(Integer::parseInt)
+                        .toList(),
+                Duration.ofSeconds(Long.getLong("loadgen.stageSeconds", 30)),
+                Duration.ofSeconds(Long.getLong("loadgen.warmupSeconds", 10)),
+                Duration.ofMillis(Long.getLong("loadgen.timeoutMillis", 10_000)),
+                Duration.ofMillis(Long.getLong("loadgen.p99TargetMillis", 500)),
+                Double.parseDouble(System.getProperty("loadgen.maxErrorRate", "0.01")),
+                Path.of(System.getProperty("loadgen.outputDir", "build/loadgen")),
+                Boolean.parseBoolean(System.getProperty("loadgen.serverMetrics", "true")),
+                Duration.ofMillis(Long.getLong("loadgen.serverSampleMillis", 500)));
+    }
+
+    private static List<String> split(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(part -> !part.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.virtualthread.loadgen;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 대상 서버의 actuator metrics 엔드포인트에서 CPU 시간, 누적 할당량, 힙 사용량을 읽음
+ * <p>
+ * 서블릿 스택과 reactive 스택 모두 Micrometer 기본 JVM/프로세스 메트릭을 노출하므로
+ * 같은 방식으로 요청당 CPU, 요청당 할당량, 진행 중 요청당 힙을 비교할 수 있다.
+ * 부하 생성기 의존성을 늘리지 않도록 응답 JSON은 필요한 필드만 정규식으로 읽는다.
+ */
+final class ServerMetricsProbe {
+
+    private static final Pattern VALUE = Pattern.compile("\"value\"\\s*:\\s*([-0-9.eE+]+)");
+    private static final Pattern BASE_UNIT = Pattern.compile("\"baseUnit\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final Duration timeout;
+
+    ServerMetricsProbe(HttpClient client, String baseUrl, Duration timeout) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+    }
+
+    /**
+     * @param cpuMillis      프로세스 누적 CPU 시간 (ms)
+     * @param allocatedBytes 누적 힙 할당량
+     * @param heapUsedBytes  현재 힙 사용량
+     */
+    record Snapshot(double cpuMillis, double allocatedBytes, double heapUsedBytes) {
+    }
+
+    Snapshot snapshot() throws IOException, InterruptedException {
+        return new Snapshot(cpuMillis(), value("jvm.gc.memory.allocated"), heapUsedBytes());
+    }
+
+    double heapUsedBytes() throws IOException, InterruptedException {
+        return value("jvm.memory.used?tag=area:heap");
+    }
+
+    private double cpuMillis() throws IOException, InterruptedException {
+        String body = fetch("process.cpu.time");
+        Matcher unit = BASE_UNIT.matcher(body);
+        double value = parseValue(body, "process.cpu.time");
+        return switch (unit.find() ? unit.group(1) : "ns") {
+            case "seconds" -> value * 1000;
+            case "ms", "milliseconds" -> value;
+            default -> value / 1_000_000;
+        };
+    }
+
+    private double value(String metric) throws IOException, InterruptedException {
+        return parseValue(fetch(metric), metric);
+    }
+
+    private String fetch(String metric) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/metrics/" + metric))
+                .timeout(timeout)
+                .GET()
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException(metric + " 조회 실패 (HTTP " + response.statusCode() + ")");
+        }
+        return response.body();
+    }
+
+    private static double parseValue(String body, String metric) throws IOException {
+        Matcher matcher = VALUE.matcher(body);
+        if (!matcher.find()) {
+            throw new IOException(metric + " 응답에 value가 없습니다");
+        }
+        return Double.parseDouble(matcher.group(1));
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.virtualthread.loadgen;
+
+/**
+ * 단계별 서버 자원 사용량 - 측정 구간 전후 스냅샷과 구간 중 샘플로 계산
+ *
+ * @param cpuMillisPerRequest   요청당 프로세스 CPU 시간 (ms)
+ * @param allocatedKbPerRequest 요청당 힙 할당량 (KB)
+ * @param heapKbPerInFlight     진행 중 요청 하나당 힙 증가량 (KB) - 구간 평균 힙에서 시작 시점 힙을 뺀 값 기준
+ * @param averageInFlight       구간 중 평균 진행 중 요청 수
+ */
+public record ServerStats(
+        double cpuMillisPerRequest,
+        double allocatedKbPerRequest,
+        double heapKbPerInFlight,
+        double averageInFlight) {
+
+    static ServerStats of(ServerMetricsProbe.Snapshot before, ServerMetricsProbe.Snapshot after,
+                          long requests, double averageHeapBytes, double averageInFlight) {
+        long count = Math.max(1, requests);
+        double heapGrowthKb = Math.max(0, averageHeapBytes - before.heapUsedBytes()) / 1024;
+        return new ServerStats(
+                (after.cpuMillis() - before.cpuMillis()) / count,
+                (after.allocatedBytes() - before.allocatedBytes()) / 1024 / count,
+                averageInFlight > 0 ? heapGrowthKb / averageInFlight : 0,
+                averageInFlight);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.virtualthread.loadgen;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+
+/**
+ * 단계별 측정 결과 - 지연은 의도된 전송 시각 기준(마이크로초)
+ *
+ * @param targetRate     목표 도착률 (req/s)
+ * @param elapsedNanos   첫 요청 예정 시각부터 마지막 응답까지
+ * @param maxSendLagNanos 스케줄러가 의도된 전송 시각보다 늦게 보낸 최대 시간
+ * @param endpoints      경로별 지연 히스토그램
+ * @param errors         경로별 오류 수 (4xx/5xx, 타임아웃, 연결 실패)
+ * @param server         서버 자원 사용량 (측정하지 않았으면 null)
+ */
+public record StageResult(
+        int targetRate,
+        long elapsedNanos,
+        long maxSendLagNanos,
+        Map<String, Histogram> endpoints,
+        Map<String, Long> errors,
+        ServerStats server) {
+
+    public Histogram total() {
+        Histogram total = new Histogram(3);
+        endpoints.values().forEach(total::add);
+        return total;
+    }
+
+    public long totalErrors() {
+        return errors.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public double achievedRate() {
+        return total().getTotalCount() / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    public double errorRate() {
+        long count = total().getTotalCount();
+        return count == 0 ? 0 : (double) totalErrors() / count;
+    }
+}
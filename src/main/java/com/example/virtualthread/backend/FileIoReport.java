@@ -0,0 +1,20 @@
+package com.example.virtualthread.backend;
+
+/**
+ * 파일 I/O 전략 측정 결과
+ *
+ * @param carriersBefore 측정 시작 시 carrier 스레드 수
+ * @param carriersPeak   측정 중 관측된 최대 carrier 스레드 수
+ * @param carrierGrowth  측정 중 늘어난 carrier 스레드 수
+ */
+public record FileIoReport(
+        FileIoStrategy strategy,
+        int operations,
+        int concurrency,
+        long elapsedMillis,
+        double operationsPerSecond,
+        double megabytesPerSecond,
+        int carriersBefore,
+        int carriersPeak,
+        int carrierGrowth) {
+}
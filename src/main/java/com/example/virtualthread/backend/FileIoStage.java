@@ -0,0 +1,299 @@
+package com.example.virtualthread.backend;
+
+import com.example.virtualthread.config.BackendProperties;
+import com.example.virtualthread.monitor.CarrierThreadMonitor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실제 파일 처리 단계 - 임시 디렉터리에 페이로드를 쓰고 다시 읽어 체크섬을 검증
+ * <p>
+ * JDK 21에서 가상 스레드의 블로킹 파일 I/O는 carrier를 묶고, 스케줄러는 carrier를 추가로 만들어 보상한다.
+ * 전략마다 이 보상이 얼마나 일어나는지({@link CarrierThreadMonitor})와 처리량을 비교할 수 있다.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class FileIoStage {
+
+    private final BackendProperties.File properties;
+    private final CarrierThreadMonitor carrierMonitor;
+    private final Path directory;
+    private final byte[] payload;
+    private final long expectedChecksum;
+    private final int bufferSize;
+    private final ConcurrentLinkedQueue<ByteBuffer> bufferPool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooledBuffers = new AtomicInteger();
+    private final ExecutorService offloadPool;
+    private final Map<FileIoStrategy, Timer> operationTimers = new EnumMap<>(FileIoStrategy.class);
+    private final Map<FileIoStrategy, Counter> byteCounters = new EnumMap<>(FileIoStrategy.class);
+    private final AtomicInteger fileSequence = new AtomicInteger();
+
+    public FileIoStage(BackendProperties properties, CarrierThreadMonitor carrierMonitor,
+                       MeterRegistry meterRegistry) throws IOException {
+        this.properties = properties.file();
+        this.carrierMonitor = carrierMonitor;
+        this.directory = Files.createTempDirectory("virtual-thread-io");
+        this.payload = new byte[(int) properties.fileSize().toBytes()];
+        ThreadLocalRandom.current().nextBytes(payload);
+        this.expectedChecksum = checksum(payload, payload.length, 0);
+        this.bufferSize = (int) this.properties.bufferSize().toBytes();
+        AtomicInteger offloadThreads = new AtomicInteger();
+        this.offloadPool = Executors.newFixedThreadPool(this.properties.offloadThreads(), runnable ->
+                Thread.ofPlatform().daemon().name("file-io-" + offloadThreads.incrementAndGet()).unstarted(runnable));
+
+        for (FileIoStrategy strategy : FileIoStrategy.values()) {
+            String tag = strategy.name().toLowerCase();
+            operationTimers.put(strategy, Timer.builder("file.io.operation")
+                    .description("파일 쓰기+읽기 1회 소요 시간")
+                    .tag("strategy", tag)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            byteCounters.put(strategy, Counter.builder("file.io.bytes")
+                    .description("파일 작업으로 쓰고 읽은 바이트 수")
+                    .tag("strategy", tag)
+                    .baseUnit("bytes")
+                    .register(meterRegistry));
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        offloadPool.shutdownNow();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    public FileIoStrategy defaultStrategy() {
+        return properties.strategy();
+    }
+
+    /**
+     * 설정된 기본 전략으로 파일 작업 1회 실행
+     */
+    public void run(int taskId) throws InterruptedException {
+        run(properties.strategy(), taskId);
+    }
+
+    public void run(FileIoStrategy strategy, int taskId) throws InterruptedException {
+        Path file = directory.resolve("task-" + taskId + "-" + fileSequence.incrementAndGet() + ".dat");
+        long startNanos = System.nanoTime();
+        try {
+            long checksum = switch (strategy) {
+                case STREAM -> writeAndReadStream(file);
+                case CHANNEL -> writeAndReadChannel(file);
+                case MAPPED -> writeAndReadMapped(file);
+                case OFFLOAD -> offload(file);
+            };
+            if (checksum != expectedChecksum) {
+                throw new IllegalStateException("파일 체크섬 불일치: " + file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("파일 작업 실패", e);
+        } finally {
+            deleteQuietly(file);
+        }
+        operationTimers.get(strategy).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        byteCounters.get(strategy).increment(2.0 * payload.length);
+    }
+
+    /**
+     * 한 전략으로 파일 작업을 concurrency개씩 동시에 operations회 실행하고 처리량과 carrier 증가를 측정
+     */
+    public FileIoReport benchmark(FileIoStrategy strategy, int operations, int concurrency) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(concurrency);
+        List<Future<?>> futures = new ArrayList<>(operations);
+
+        int carriersBefore;
+        int carriersPeak;
+        long elapsedNanos;
+        try (CarrierThreadMonitor.Sampling carriers = carrierMonitor.startSampling()) {
+            carriersBefore = carriers.before();
+            long startNanos = System.nanoTime();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < operations; i++) {
+                    int taskId = i;
+                    inFlight.acquire();
+                    futures.add(executor.submit(() -> {
+                        try {
+                            run(strategy, taskId);
+                        } finally {
+                            inFlight.release();
+                        }
+                        return null;
+                    }));
+                }
+            }
+            elapsedNanos = System.nanoTime() - startNanos;
+            carriersPeak = carriers.peak();
+        }
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(strategy + " 파일 작업 실패", e.getCause());
+            }
+        }
+
+        double seconds = Math.max(elapsedNanos, 1) / 1_000_000_000.0;
+        log.info("파일 I/O 전략 {} - {}회, {}ms, carrier {} -> {}",
+                strategy, operations, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), carriersBefore, carriersPeak);
+        return new FileIoReport(
+                strategy,
+                operations,
+                concurrency,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                operations / seconds,
+                2.0 * payload.length * operations / seconds / (1024 * 1024),
+                carriersBefore,
+                carriersPeak,
+                Math.max(0, carriersPeak - carriersBefore));
+    }
+
+    private long writeAndReadStream(Path file) throws IOException {
+        try (OutputStream out = new FileOutputStream(file.toFile())) {
+            for (int offset = 0; offset < payload.length; offset += bufferSize) {
+                out.write(payload, offset, Math.min(bufferSize, payload.length - offset));
+            }
+        }
+
+        long checksum = 0;
+        byte[] buffer = new byte[bufferSize];
+        try (InputStream in = new FileInputStream(file.toFile())) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                checksum = checksum(buffer, read, checksum);
+            }
+        }
+        return checksum;
+    }
+
+    private long writeAndReadChannel(Path file) throws IOException {
+        ByteBuffer buffer = borrowBuffer();
+        try {
+            try (FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                for (int offset = 0; offset < payload.length; offset += bufferSize) {
+                    buffer.clear();
+                    buffer.put(payload, offset, Math.min(bufferSize, payload.length - offset));
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                }
+            }
+
+            long checksum = 0;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                buffer.clear();
+                while (channel.read(buffer) != -1) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        checksum += buffer.get();
+                    }
+                    buffer.clear();
+                }
+            }
+            return checksum;
+        } finally {
+            returnBuffer(buffer);
+        }
+    }
+
+    private long writeAndReadMapped(Path file) throws IOException {
+        try (Arena arena = Arena.ofConfined();
+             FileChannel channel = FileChannel.open(file,
+                     StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MemorySegment mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, payload.length, arena);
+            MemorySegment.copy(payload, 0, mapped, ValueLayout.JAVA_BYTE, 0, payload.length);
+
+            long checksum = 0;
+            for (long offset = 0; offset < payload.length; offset++) {
+                checksum += mapped.get(ValueLayout.JAVA_BYTE, offset);
+            }
+            return checksum;
+        }
+    }
+
+    private long offload(Path file) throws InterruptedException, IOException {
+        Future<Long> result = offloadPool.submit(() -> writeAndReadStream(file));
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IllegalStateException("파일 I/O 풀 작업 실패", e.getCause());
+        }
+    }
+
+    private ByteBuffer borrowBuffer() {
+        ByteBuffer buffer = bufferPool.poll();
+        if (buffer != null) {
+            pooledBuffers.decrementAndGet();
+            return buffer;
+        }
+        return ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    private void returnBuffer(ByteBuffer buffer) {
+        // 보관 한도를 넘는 버퍼는 GC에 맡김
+        if (pooledBuffers.incrementAndGet() <= properties.pooledBuffers()) {
+            bufferPool.offer(buffer);
+        } else {
+            pooledBuffers.decrementAndGet();
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("임시 파일 삭제 실패 {}", file, e);
+        }
+    }
+
+    private static long checksum(byte[] bytes, int length, long checksum) {
+        for (int i = 0; i < length; i++) {
+            checksum += bytes[i];
+        }
+        return checksum;
+    }
+}
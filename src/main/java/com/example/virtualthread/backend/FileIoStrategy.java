@@ -0,0 +1,27 @@
+package com.example.virtualthread.backend;
+
+/**
+ * 파일 작업 구현 방식
+ */
+public enum FileIoStrategy {
+
+    /**
+     * FileOutputStream / FileInputStream과 힙 버퍼
+     */
+    STREAM,
+
+    /**
+     * FileChannel과 풀링된 direct ByteBuffer
+     */
+    CHANNEL,
+
+    /**
+     * 메모리 매핑(MemorySegment) - 읽기/쓰기가 시스템 콜 없이 page fault로 처리됨
+     */
+    MAPPED,
+
+    /**
+     * 소수의 플랫폼 스레드 I/O 풀에 위임하고 가상 스레드는 결과를 기다리며 park
+     */
+    OFFLOAD
+}
@@ -0,0 +1,77 @@
+package com.example.virtualthread.backend;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 외부 API 역할을 하는 로컬 HTTP 스텁 서버 (JDK HttpServer)
+ * <p>
+ * {@code GET /api?latencyMs=N}은 N ms 뒤 "API-Call-Success"를 반환한다.
+ * 루프백의 임의 포트에 바인딩되며, 요청은 가상 스레드에서 처리된다.
+ */
+@Slf4j
+final class LocalHttpStub implements AutoCloseable {
+
+    private static final byte[] BODY = "API-Call-Success".getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+    private final ExecutorService handlers = Executors.newVirtualThreadPerTaskExecutor();
+
+    LocalHttpStub() {
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        } catch (IOException e) {
+            throw new UncheckedIOException("HTTP 스텁 서버 생성 실패", e);
+        }
+        server.createContext("/api", this::handle);
+        server.setExecutor(handlers);
+        server.start();
+        log.info("HTTP 스텁 서버 시작 - {}", baseUri());
+    }
+
+    URI baseUri() {
+        InetSocketAddress address = server.getAddress();
+        return URI.create("http://" + address.getHostString() + ":" + address.getPort());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            Thread.sleep(latencyMillis(exchange.getRequestURI()));
+            exchange.sendResponseHeaders(200, BODY.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(BODY);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static long latencyMillis(URI uri) {
+        String query = uri.getRawQuery();
+        if (query != null) {
+            for (String param : query.split("&")) {
+                if (param.startsWith("latencyMs=")) {
+                    return Long.parseLong(param.substring("latencyMs=".length()));
+                }
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        handlers.shutdownNow();
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.virtualthread.backend;
+
+import com.example.virtualthread.config.BackendProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 실제 로컬 I/O 백엔드
+ * <ul>
+ *   <li>API: 로컬 HTTP 스텁 서버에 {@link HttpClient}로 요청 (실제 소켓 블로킹)</li>
+ *   <li>DB: H2 인메모리 DB에 HikariCP 커넥션 풀을 통해 조회, 지연은 DB 측 DB_SLEEP 함수로 커넥션을 점유한 채 소비</li>
+ *   <li>파일: {@link FileIoStage}가 설정된 전략으로 임시 디렉터리에 실제로 쓰고 읽은 뒤 삭제</li>
+ * </ul>
+ * H2 JDBC 드라이버는 내부에서 synchronized를 사용하므로 DB 단계는 carrier를 pinning한다.
+ * 이는 sleep 모드에서는 드러나지 않는 실제 동작이며 pinning 모니터로 확인할 수 있다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "virtual-thread.backend", name = "mode", havingValue = "real-io")
+@Profile("!reactive")
+public class RealIoStageBackend implements StageBackend {
+
+    private final BackendProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final FileIoStage fileIoStage;
+    private final LocalHttpStub stub = new LocalHttpStub();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+
+    public RealIoStageBackend(BackendProperties properties, JdbcTemplate jdbcTemplate, FileIoStage fileIoStage) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.fileIoStage = fileIoStage;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        jdbcTemplate.execute("CREATE ALIAS IF NOT EXISTS DB_SLEEP FOR '" + RealIoStageBackend.class.getName() + ".dbSleep'");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS task_data (id INT PRIMARY KEY, payload VARCHAR(64))");
+        jdbcTemplate.update("MERGE INTO task_data SELECT X, 'payload-' || X FROM SYSTEM_RANGE(1, ?)", properties.seedRows());
+        log.info("real-io 백엔드 준비 완료 - 파일 전략: {}, H2 행 수: {}", fileIoStage.defaultStrategy(), properties.seedRows());
+    }
+
+    @PreDestroy
+    public void close() {
+        stub.close();
+        httpClient.close();
+    }
+
+    /**
+     * H2 DB_SLEEP 함수 구현 - 조회가 커넥션을 점유하는 시간을 모델링
+     */
+    public static void dbSleep(long millis) throws InterruptedException {
+        Thread.sleep(millis);
+    }
+
+    @Override
+    public String mode() {
+        return "real-io";
+    }
+
+    @Override
+    public void blockingCall(int taskId, long latencyMillis) throws InterruptedException {
+        callApi(taskId, latencyMillis);
+    }
+
+    @Override
+    public void queryBatch(List<Integer> taskIds, long latencyMillis) throws InterruptedException {
+        String placeholders = taskIds.stream().map(id -> "?").collect(Collectors.joining(","));
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+                try (PreparedStatement sleep = connection.prepareStatement("CALL DB_SLEEP(?)")) {
+                    sleep.setLong(1, latencyMillis);
+                    sleep.execute();
+                }
+                try (PreparedStatement select = connection.prepareStatement(
+                        "SELECT COUNT(payload) FROM task_data WHERE id IN (" + placeholders + ")")) {
+                    for (int i = 0; i < taskIds.size(); i++) {
+                        select.setInt(i + 1, taskIds.get(i));
+                    }
+                    try (ResultSet rs = select.executeQuery()) {
+                        rs.next();
+                        return rs.getInt(1);
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            throw rethrowIfInterrupted(e);
+        }
+    }
+
+    @Override
+    public void callApi(int taskId, long latencyMillis) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(stub.baseUri().resolve("/api?taskId=" + taskId + "&latencyMs=" + latencyMillis))
+                .GET()
+                .build();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("HTTP 스텁 응답 오류: " + response.statusCode());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("HTTP 스텁 호출 실패", e);
+        }
+    }
+
+    @Override
+    public void fileOperation(int taskId) throws InterruptedException {
+        fileIoStage.run(taskId);
+    }
+
+    /**
+     * DB_SLEEP 안에서 인터럽트되면 H2가 SQLException으로 감싸므로 원래의 취소 신호로 되돌린다
+     */
+    private static RuntimeException rethrowIfInterrupted(RuntimeException e) throws InterruptedException {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedException interrupted) {
+                throw interrupted;
+            }
+        }
+        return e;
+    }
+}
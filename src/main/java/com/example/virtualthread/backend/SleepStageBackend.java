@@ -0,0 +1,46 @@
+package com.example.virtualthread.backend;
+
+import com.example.virtualthread.config.BackendProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Thread.sleep 기반 백엔드 (기본값)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "virtual-thread.backend", name = "mode", havingValue = "sleep", matchIfMissing = true)
+@Profile("!reactive")
+public class SleepStageBackend implements StageBackend {
+
+    private final BackendProperties properties;
+
+    @Override
+    public String mode() {
+        return "sleep";
+    }
+
+    @Override
+    public void blockingCall(int taskId, long latencyMillis) throws InterruptedException {
+        Thread.sleep(latencyMillis);
+    }
+
+    @Override
+    public void queryBatch(List<Integer> taskIds, long latencyMillis) throws InterruptedException {
+        Thread.sleep(latencyMillis); // SELECT ... WHERE id IN (...) 지연 시뮬레이션
+    }
+
+    @Override
+    public void callApi(int taskId, long latencyMillis) throws InterruptedException {
+        Thread.sleep(latencyMillis); // 외부 API 호출 지연 시뮬레이션
+    }
+
+    @Override
+    public void fileOperation(int taskId) throws InterruptedException {
+        Thread.sleep(properties.fileLatency().toMillis()); // 파일 작업 지연 시뮬레이션
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.virtualthread.backend;
+
+import java.util.List;
+
+/**
+ * 작업이 수행하는 블로킹 I/O의 실제 구현
+ * <p>
+ * 모든 메서드는 호출 스레드를 블로킹하며, 인터럽트되면 {@link InterruptedException}으로 취소된다.
+ * 지연 값은 시뮬레이션 모델이 정한 목표치이며, 구현은 이를 sleep 또는 실제 I/O 대기로 소비한다.
+ */
+public interface StageBackend {
+
+    /**
+     * 모드 이름 (sleep, real-io)
+     */
+    String mode();
+
+    /**
+     * 일반 블로킹 호출 (/sync, /async, /parallel, /virtual-threads 작업)
+     */
+    void blockingCall(int taskId, long latencyMillis) throws InterruptedException;
+
+    /**
+     * 여러 키를 한 번에 조회하는 DB 왕복
+     */
+    void queryBatch(List<Integer> taskIds, long latencyMillis) throws InterruptedException;
+
+    /**
+     * 외부 API 호출 한 번
+     */
+    void callApi(int taskId, long latencyMillis) throws InterruptedException;
+
+    /**
+     * 파일 쓰기/읽기 작업
+     */
+    void fileOperation(int taskId) throws InterruptedException;
+}
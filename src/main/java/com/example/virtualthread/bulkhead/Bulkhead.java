@@ -0,0 +1,153 @@
+package com.example.virtualthread.bulkhead;
+
+import com.example.virtualthread.config.BulkheadProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 다운스트림 하나에 대한 동시 호출 제한
+ * <p>
+ * 한도를 런타임에 바꿀 수 있도록 Semaphore 대신 ReentrantLock + Condition으로 구현한다.
+ * 대기 중인 가상 스레드는 carrier를 점유하지 않고 park된다.
+ * <p>
+ * AIMD 감소는 혼잡 신호 하나당 한 번만 적용한다 - 직전 감소 이전에 시작한 호출이 늦게 끝나도
+ * 같은 혼잡의 신호이므로 다시 줄이지 않는다 (한 번의 지연 급증으로 한도가 minLimit까지 떨어지는 것 방지).
+ */
+public final class Bulkhead {
+
+    private final String name;
+    private final BulkheadProperties.Spec spec;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final Timer acquiredWait;
+    private final Timer rejectedWait;
+    private final Counter rejected;
+
+    private volatile int limit;
+    private volatile int inUse;
+    private volatile int waiting;
+    private long lastDecreaseNanos;
+
+    Bulkhead(String name, BulkheadProperties.Spec spec, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.spec = spec;
+        this.limit = spec.maxConcurrent();
+        this.lastDecreaseNanos = System.nanoTime();
+        this.acquiredWait = waitTimer(meterRegistry, name, "acquired");
+        this.rejectedWait = waitTimer(meterRegistry, name, "rejected");
+        this.rejected = Counter.builder("bulkhead.rejected")
+                .description("벌크헤드 슬롯을 얻지 못해 거절된 호출 수")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.in-use", this, Bulkhead::inUse).tag("name", name).register(meterRegistry);
+        Gauge.builder("bulkhead.waiting", this, Bulkhead::waiting).tag("name", name).register(meterRegistry);
+        Gauge.builder("bulkhead.limit", this, Bulkhead::limit).tag("name", name).register(meterRegistry);
+    }
+
+    public <T, E extends Exception> T execute(Call<T, E> call) throws E, InterruptedException {
+        acquire();
+        long startNanos = System.nanoTime();
+        try {
+            return call.call();
+        } finally {
+            release(System.nanoTime() - startNanos);
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inUse() {
+        return inUse;
+    }
+
+    public int waiting() {
+        return waiting;
+    }
+
+    private void acquire() throws InterruptedException {
+        long startNanos = System.nanoTime();
+        lock.lockInterruptibly();
+        try {
+            if (inUse >= limit) {
+                long remaining = spec.maxWait().toNanos();
+                waiting++;
+                try {
+                    while (inUse >= limit) {
+                        if (remaining <= 0) {
+                            rejected.increment();
+                            rejectedWait.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                            throw new BulkheadFullException(name,
+                                    "벌크헤드 '%s' 포화 - 한도 %d, %dms 내 슬롯 없음"
+                                            .formatted(name, limit, spec.maxWait().toMillis()));
+                        }
+                        remaining = available.awaitNanos(remaining);
+                    }
+                } finally {
+                    waiting--;
+                }
+            }
+            inUse++;
+        } finally {
+            lock.unlock();
+        }
+        acquiredWait.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void release(long latencyNanos) {
+        lock.lock();
+        try {
+            boolean saturated = inUse >= limit;
+            inUse--;
+            if (spec.adaptive() == BulkheadProperties.Adaptive.AIMD) {
+                adjustLimit(latencyNanos, saturated);
+            }
+            if (inUse < limit) {
+                available.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * lock을 쥔 상태에서 호출
+     */
+    private void adjustLimit(long latencyNanos, boolean saturated) {
+        if (latencyNanos > spec.latencyThreshold().toNanos()) {
+            long nowNanos = System.nanoTime();
+            // 직전 감소 이후에 시작한 호출만 새 혼잡 신호로 본다
+            if (nowNanos - latencyNanos - lastDecreaseNanos > 0) {
+                limit = Math.max(spec.minLimit(), (int) (limit * spec.backoffRatio()));
+                lastDecreaseNanos = nowNanos;
+            }
+        } else if (saturated) {
+            limit = Math.min(spec.maxLimit(), limit + 1);
+        }
+    }
+
+    private static Timer waitTimer(MeterRegistry meterRegistry, String name, String outcome) {
+        return Timer.builder("bulkhead.wait")
+                .description("벌크헤드 슬롯 대기 시간 (거절된 호출은 거절까지 기다린 시간)")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    public interface Call<T, E extends Exception> {
+        T call() throws E;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.virtualthread.bulkhead;
+
+import lombok.Getter;
+
+/**
+ * 벌크헤드 슬롯을 대기 시간 내에 얻지 못했을 때 발생
+ */
+@Getter
+public class BulkheadFullException extends RuntimeException {
+
+    private final String bulkhead;
+
+    public BulkheadFullException(String bulkhead, String message) {
+        super(message);
+        this.bulkhead = bulkhead;
+    }
+}
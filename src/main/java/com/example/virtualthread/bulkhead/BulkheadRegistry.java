@@ -0,0 +1,42 @@
+package com.example.virtualthread.bulkhead;
+
+import com.example.virtualthread.config.BulkheadProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 설정된 다운스트림별 벌크헤드 보관소
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class BulkheadRegistry {
+
+    private final Map<String, Bulkhead> bulkheads = new TreeMap<>();
+
+    public BulkheadRegistry(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        properties.instances().forEach((name, spec) -> {
+            bulkheads.put(name, new Bulkhead(name, spec, meterRegistry));
+            log.info("벌크헤드 '{}' - 한도 {}, 대기 {}ms, adaptive {}",
+                    name, spec.maxConcurrent(), spec.maxWait().toMillis(), spec.adaptive());
+        });
+    }
+
+    /**
+     * 이름에 해당하는 벌크헤드 안에서 실행 - 설정되지 않은 다운스트림은 제한 없이 바로 실행
+     */
+    public <T, E extends Exception> T execute(String name, Bulkhead.Call<T, E> call) throws E, InterruptedException {
+        Bulkhead bulkhead = bulkheads.get(name);
+        return bulkhead == null ? call.call() : bulkhead.execute(call);
+    }
+
+    public Collection<Bulkhead> all() {
+        return bulkheads.values();
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.virtualthread.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 팬아웃 작업 수락 제어(Admission Control) 설정
+ *
+ * @param maxConcurrentTasks 전체 요청에 걸쳐 동시에 실행 가능한 작업 수 (전역 permit 수)
+ * @param maxFanOut          요청 하나가 생성할 수 있는 최대 작업 수
+ * @param maxQueueDepth      permit을 기다릴 수 있는 최대 요청 수
+ * @param queueTimeout       permit 대기 최대 시간
+ */
+@ConfigurationProperties(prefix = "virtual-thread.admission")
+public record AdmissionProperties(
+        @DefaultValue("10000") int maxConcurrentTasks,
+        @DefaultValue("1000") int maxFanOut,
+        @DefaultValue("100") int maxQueueDepth,
+        @DefaultValue("500ms") Duration queueTimeout) {
+
+    public AdmissionProperties {
+        if (maxFanOut > maxConcurrentTasks) {
+            // 요청 하나가 전역 한도보다 많은 permit을 요구하면 영원히 수락될 수 없다
+            throw new IllegalArgumentException(
+                    "max-fan-out(" + maxFanOut + ")은 max-concurrent-tasks(" + maxConcurrentTasks + ")를 넘을 수 없습니다");
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.virtualthread.config;
+
+import com.example.virtualthread.backend.FileIoStrategy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 블로킹 단계 백엔드 설정
+ *
+ * @param mode        sleep(Thread.sleep 시뮬레이션) 또는 real-io(로컬 HTTP/JDBC/파일 I/O)
+ * @param fileLatency sleep 모드의 파일 작업 지연
+ * @param fileSize    real-io 모드에서 파일 작업 한 번에 쓰고 읽는 크기
+ * @param seedRows    real-io 모드에서 H2에 미리 채워 둘 행 수
+ * @param file        real-io 모드 파일 작업 전략 설정
+ */
+@ConfigurationProperties(prefix = "virtual-thread.backend")
+public record BackendProperties(
+        @DefaultValue("sleep") Mode mode,
+        @DefaultValue("500ms") Duration fileLatency,
+        @DefaultValue("256KB") DataSize fileSize,
+        @DefaultValue("10000") int seedRows,
+        @DefaultValue File file) {
+
+    public enum Mode {
+        SLEEP, REAL_IO
+    }
+
+    /**
+     * @param strategy       파일 작업 구현 방식 (stream, channel, mapped, offload)
+     * @param bufferSize     stream/channel 전략의 읽기·쓰기 단위
+     * @param pooledBuffers  channel 전략에서 재사용을 위해 보관할 direct 버퍼 수
+     * @param offloadThreads offload 전략의 플랫폼 I/O 스레드 수
+     */
+    public record File(
+            @DefaultValue("channel") FileIoStrategy strategy,
+            @DefaultValue("64KB") DataSize bufferSize,
+            @DefaultValue("256") int pooledBuffers,
+            @DefaultValue("4") int offloadThreads) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.virtualthread.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * 백그라운드 벤치마크 작업 설정
+ *
+ * @param storePath                  실행 결과를 한 줄에 하나씩 추가 기록할 JSONL 파일
+ * @param maxRetainedJobs            메모리에 상태를 보관할 최대 작업 수 (결과는 파일에 영구 보관)
+ * @param regressionThresholdPercent 비교 시 회귀로 판정할 기본 변화율 (%)
+ */
+@ConfigurationProperties(prefix = "virtual-thread.benchmark-jobs")
+public record BenchmarkJobProperties(
+        @DefaultValue("benchmark-runs.jsonl") Path storePath,
+        @DefaultValue("100") int maxRetainedJobs,
+        @DefaultValue("10") double regressionThresholdPercent) {
+}
@@ -0,0 +1,61 @@
+package com.example.virtualthread.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 다운스트림별 벌크헤드 설정
+ *
+ * @param instances 벌크헤드 이름(db, api, file)별 설정 - 설정이 없는 다운스트림은 제한하지 않음
+ */
+@ConfigurationProperties(prefix = "virtual-thread.bulkheads")
+public record BulkheadProperties(Map<String, Spec> instances) {
+
+    public BulkheadProperties {
+        instances = instances == null ? Map.of() : Map.copyOf(instances);
+    }
+
+    public enum Adaptive {
+        /**
+         * 고정 한도
+         */
+        NONE,
+
+        /**
+         * 지연이 기준을 넘으면 한도를 비율로 줄이고, 한도까지 찬 상태에서 정상 응답이면 1씩 늘림
+         */
+        AIMD
+    }
+
+    /**
+     * @param maxConcurrent    동시 호출 한도 (adaptive 사용 시 초기 한도)
+     * @param maxWait          슬롯 대기 시간 (0이면 즉시 거절)
+     * @param adaptive         한도 조정 방식
+     * @param minLimit         adaptive 한도 하한
+     * @param maxLimit         adaptive 한도 상한
+     * @param latencyThreshold 이 시간을 넘긴 호출은 과부하 신호로 간주
+     * @param backoffRatio     과부하 신호 시 한도에 곱할 비율
+     */
+    public record Spec(
+            @DefaultValue("100") int maxConcurrent,
+            @DefaultValue("500ms") Duration maxWait,
+            @DefaultValue("none") Adaptive adaptive,
+            @DefaultValue("1") int minLimit,
+            @DefaultValue("1000") int maxLimit,
+            @DefaultValue("5s") Duration latencyThreshold,
+            @DefaultValue("0.9") double backoffRatio) {
+
+        public Spec {
+            if (maxConcurrent < 1) {
+                throw new IllegalArgumentException("max-concurrent는 1 이상이어야 합니다: " + maxConcurrent);
+            }
+            if (minLimit < 1 || minLimit > maxLimit) {
+                throw new IllegalArgumentException(
+                        "min-limit(%d)는 1 이상, max-limit(%d) 이하여야 합니다".formatted(minLimit, maxLimit));
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.virtualthread.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 복잡한 작업 결과 캐시 설정
+ *
+ * @param enabled     캐시 및 요청 병합 사용 여부
+ * @param maxSize     보관할 최대 결과 수 (초과 시 가장 오래 사용되지 않은 항목 제거)
+ * @param ttl         성공 결과 보관 시간
+ * @param negativeTtl 실패 결과 보관 시간
+ */
+@ConfigurationProperties(prefix = "virtual-thread.complex-cache")
+public record ComplexCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") int maxSize,
+        @DefaultValue("30s") Duration ttl,
+        @DefaultValue("2s") Duration negativeTtl) {
+}
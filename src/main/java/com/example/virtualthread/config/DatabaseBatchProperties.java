@@ -0,0 +1,26 @@
+package com.example.virtualthread.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * DB 조회 마이크로 배칭 설정
+ *
+ * @param enabled        배칭 사용 여부 (false면 호출마다 왕복 1회)
+ * @param maxBatchSize   한 번의 배치 조회에 포함할 최대 키 수
+ * @param maxWait        첫 요청 도착 후 배치를 모으는 최대 대기 시간
+ * @param baseLatency    왕복 1회 비용 (IN 절 조회 기본 지연)
+ * @param perKeyLatency  배치에 포함된 키 하나당 추가 비용
+ * @param queryTimeout   배치 전송 후 결과를 기다리는 최대 시간 (호출자는 maxWait + queryTimeout까지 대기)
+ */
+@ConfigurationProperties(prefix = "virtual-thread.db-batch")
+public record DatabaseBatchProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100") int maxBatchSize,
+        @DefaultValue("5ms") Duration maxWait,
+        @DefaultValue("1000ms") Duration baseLatency,
+        @DefaultValue("1ms") Duration perKeyLatency,
+        @DefaultValue("10s") Duration queryTimeout) {
+}
@@ -0,0 +1,30 @@
+package com.example.virtualthread.config;
+
+import com.example.virtualthread.executor.ExecutorStrategy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Executor별 실행 전략 설정
+ *
+ * @param tomcat      Tomcat 요청 처리 Executor
+ * @param application Spring MVC Async (applicationTaskExecutor)
+ * @param async       @Async("virtualThreadExecutor") 및 팬아웃 작업
+ */
+@ConfigurationProperties(prefix = "virtual-thread.executors")
+public record ExecutorProperties(
+        @DefaultValue ExecutorSpec tomcat,
+        @DefaultValue ExecutorSpec application,
+        @DefaultValue ExecutorSpec async) {
+
+    /**
+     * @param strategy       실행 전략
+     * @param poolSize       PLATFORM_POOL 스레드 수
+     * @param maxConcurrency BOUNDED_VIRTUAL 동시 실행 작업 수
+     */
+    public record ExecutorSpec(
+            @DefaultValue("virtual-per-task") ExecutorStrategy strategy,
+            @DefaultValue("200") int poolSize,
+            @DefaultValue("1000") int maxConcurrency) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.virtualthread.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 외부 API 호출 시뮬레이션 설정
+ *
+ * @param latency 호출 지연 분포
+ * @param hedge   헤지 요청 설정
+ */
+@ConfigurationProperties(prefix = "virtual-thread.external-api")
+public record ExternalApiProperties(
+        @DefaultValue Latency latency,
+        @DefaultValue Hedge hedge) {
+
+    public enum Distribution {
+        FIXED, LOG_NORMAL, BIMODAL
+    }
+
+    /**
+     * @param distribution     지연 분포 (fixed, log-normal, bimodal)
+     * @param base             고정 지연 또는 log-normal 분포의 중앙값
+     * @param sigma            log-normal 분포의 표준편차 (로그 스케일)
+     * @param spikeProbability bimodal 분포에서 꼬리 지연이 발생할 확률
+     * @param spike            bimodal 분포의 꼬리 지연
+     */
+    public record Latency(
+            @DefaultValue("fixed") Distribution distribution,
+            @DefaultValue("2000ms") Duration base,
+            @DefaultValue("0.5") double sigma,
+            @DefaultValue("0.05") double spikeProbability,
+            @DefaultValue("8000ms") Duration spike) {
+    }
+
+    /**
+     * @param enabled       헤지 요청 사용 여부
+     * @param quantile      헤지 발송 기준 분위수 (관측된 지연 기준)
+     * @param initialDelay  관측 표본이 부족할 때 사용할 헤지 지연
+     * @param minDelay      헤지 지연 하한
+     * @param minSamples    분위수 기준을 사용하기 위한 최소 관측 수
+     * @param budgetPercent 1차 호출 대비 허용할 추가 호출 비율 (%)
+     */
+    public record Hedge(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("0.95") double quantile,
+            @DefaultValue("2500ms") Duration initialDelay,
+            @DefaultValue("50ms") Duration minDelay,
+            @DefaultValue("20") int minSamples,
+            @DefaultValue("10") int budgetPercent) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.virtualthread.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * 클라이언트 간 가중 공정 스케줄링(Deficit Round Robin) 설정
+ *
+ * @param enabled              false면 팬아웃 작업을 기존처럼 바로 실행
+ * @param executionBudget      모든 클라이언트에 걸쳐 동시에 실행되는 팬아웃 작업 수
+ * @param interactiveWeight    interactive 클래스 플로의 라운드당 작업 수
+ * @param batchWeight          batch 클래스 플로의 라운드당 작업 수
+ * @param interactiveMaxFanOut X-Priority 헤더가 없을 때 이 작업 수 이하 요청은 interactive로 분류
+ * @param clientWeights        클라이언트별 가중치 배수 (설정이 없으면 1)
+ * @param maxTrackedClients    client 태그로 구분하는 최대 클라이언트 수 - 넘으면 "other"로 묶음
+ */
+@ConfigurationProperties(prefix = "virtual-thread.fair-dispatch")
+public record FairDispatchProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1000") int executionBudget,
+        @DefaultValue("8") int interactiveWeight,
+        @DefaultValue("1") int batchWeight,
+        @DefaultValue("100") int interactiveMaxFanOut,
+        Map<String, Integer> clientWeights,
+        @DefaultValue("100") int maxTrackedClients) {
+
+    public FairDispatchProperties {
+        if (executionBudget < 1) {
+            throw new IllegalArgumentException("execution-budget은 1 이상이어야 합니다: " + executionBudget);
+        }
+        if (interactiveWeight < 1 || batchWeight < 1) {
+            throw new IllegalArgumentException(
+                    "클래스 가중치는 1 이상이어야 합니다 (interactive %d, batch %d)"
+                            .formatted(interactiveWeight, batchWeight));
+        }
+        clientWeights = clientWeights == null ? Map.of() : Map.copyOf(clientWeights);
+    }
+
+    public int clientWeight(String clientId) {
+        return Math.max(1, clientWeights.getOrDefault(clientId, 1));
+    }
+}
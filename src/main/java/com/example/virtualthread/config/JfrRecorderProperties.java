@@ -0,0 +1,65 @@
+package com.example.virtualthread.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 상시 JFR 기록 및 SLO 위반 시 자동 덤프 설정
+ *
+ * @param enabled       상시 기록 사용 여부
+ * @param configuration 기본 이벤트 설정 (JDK 내장 default 또는 profile)
+ * @param settings      이벤트 설정 덮어쓰기 ("이벤트#설정" = 값, 예: jdk.SocketRead#threshold = 10 ms)
+ * @param maxAge        디스크 링 버퍼에 보관할 최대 기간
+ * @param maxSize       디스크 링 버퍼 최대 크기
+ * @param dumpDirectory 덤프 파일 저장 경로
+ * @param maxDumps      보관할 최대 덤프 수 (넘으면 오래된 것부터 삭제)
+ * @param slo           자동 덤프 기준
+ */
+@ConfigurationProperties(prefix = "virtual-thread.jfr")
+public record JfrRecorderProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("default") String configuration,
+        Map<String, String> settings,
+        @DefaultValue("10m") Duration maxAge,
+        @DefaultValue("256MB") DataSize maxSize,
+        @DefaultValue("jfr-dumps") String dumpDirectory,
+        @DefaultValue("20") int maxDumps,
+        @DefaultValue Slo slo) {
+
+    public JfrRecorderProperties {
+        settings = settings == null ? Map.of() : Map.copyOf(settings);
+    }
+
+    /**
+     * 슬라이딩 윈도 동안 SLO 지연을 넘은 요청 비율이 maxSlowRatio를 넘으면 덤프
+     *
+     * @param enabled      자동 덤프 사용 여부
+     * @param endpoints    URI 패턴별 지연 목표 (http.server.requests의 uri 태그 기준)
+     * @param maxSlowRatio 윈도 안에서 허용하는 목표 초과 요청 비율 (0.01이면 p99 기준)
+     * @param window       슬라이딩 윈도 길이 (1초 단위 버킷)
+     * @param minRequests  판정에 필요한 윈도 안 최소 요청 수
+     * @param cooldown     덤프 후 다음 자동 덤프까지 최소 간격
+     */
+    public record Slo(
+            @DefaultValue("true") boolean enabled,
+            Map<String, Duration> endpoints,
+            @DefaultValue("0.01") double maxSlowRatio,
+            @DefaultValue("60s") Duration window,
+            @DefaultValue("50") int minRequests,
+            @DefaultValue("5m") Duration cooldown) {
+
+        public Slo {
+            endpoints = endpoints == null || endpoints.isEmpty()
+                    ? Map.of("/api/v1/tasks/complex", Duration.ofSeconds(4),
+                    "/api/v1/tasks/parallel", Duration.ofSeconds(1))
+                    : Map.copyOf(endpoints);
+            if (window.toSeconds() < 1) {
+                throw new IllegalArgumentException("window는 1초 이상이어야 합니다: " + window);
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.virtualthread.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드 pinning 모니터 설정
+ *
+ * @param enabled        JFR 이벤트 스트리밍 활성화 여부
+ * @param threshold      이 시간 이상 pinning된 경우만 JFR 이벤트로 기록
+ * @param alertThreshold 이 시간 이상 pinning되면 경고 로그 출력
+ * @param stackDepth     호출 지점 집계에 사용할 스택 프레임 수
+ * @param maxSites       집계할 최대 호출 지점 수
+ */
+@ConfigurationProperties(prefix = "virtual-thread.pinning")
+public record PinningMonitorProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("20ms") Duration threshold,
+        @DefaultValue("200ms") Duration alertThreshold,
+        @DefaultValue("8") int stackDepth,
+        @DefaultValue("1000") int maxSites) {
+}
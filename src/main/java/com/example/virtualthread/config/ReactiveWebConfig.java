@@ -0,0 +1,24 @@
+package com.example.virtualthread.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * reactive 프로파일 웹 서버 설정
+ * <p>
+ * 클래스패스에 Tomcat도 있으면 reactive 애플리케이션도 Tomcat을 먼저 고르므로 Netty 팩토리를 직접 등록한다.
+ */
+@Slf4j
+@Configuration
+@Profile("reactive")
+public class ReactiveWebConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        log.info("reactive 프로파일 - Netty 서버 사용");
+        return new NettyReactiveWebServerFactory();
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.virtualthread.config;
+
+import com.example.virtualthread.context.RequestContexts;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 요청 컨텍스트 전파 설정
+ *
+ * @param mode scoped-value(기본값) 또는 thread-local(InheritableThreadLocal + MDC)
+ */
+@ConfigurationProperties(prefix = "virtual-thread.context")
+public record RequestContextProperties(@DefaultValue("scoped-value") RequestContexts.Mode mode) {
+}
@@ -0,0 +1,44 @@
+package com.example.virtualthread.config;
+
+import com.example.virtualthread.eventlog.TaskEventType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 작업 이벤트 로그(링 버퍼 + 단일 기록 스레드) 설정
+ *
+ * @param enabled              false면 작업 이벤트를 기존처럼 애플리케이션 로그(logback)에 바로 기록
+ * @param file                 이벤트 로그 파일 경로 (이어 쓰기)
+ * @param bufferSize           링 버퍼 슬롯 수 (2의 거듭제곱) - 가득 차면 새 이벤트를 버림
+ * @param batchSize            기록 스레드가 한 번에 꺼내 파일에 쓰는 최대 이벤트 수
+ * @param pollInterval         버퍼가 비었을 때 기록 스레드가 다시 확인하기까지 쉬는 시간
+ * @param defaultRatePerSecond 호출 지점별 초당 기록 상한 (음수면 무제한, 0이면 기록 안 함)
+ * @param ratePerSecond        호출 지점별 초당 기록 상한 덮어쓰기 (예: db-query: 100)
+ */
+@ConfigurationProperties(prefix = "virtual-thread.task-events")
+public record TaskEventLogProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("logs/task-events.log") String file,
+        @DefaultValue("65536") int bufferSize,
+        @DefaultValue("4096") int batchSize,
+        @DefaultValue("5ms") Duration pollInterval,
+        @DefaultValue("10000") int defaultRatePerSecond,
+        Map<TaskEventType, Integer> ratePerSecond) {
+
+    public TaskEventLogProperties {
+        if (bufferSize < 2 || Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("buffer-size는 2 이상의 2의 거듭제곱이어야 합니다: " + bufferSize);
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batch-size는 1 이상이어야 합니다: " + batchSize);
+        }
+        ratePerSecond = ratePerSecond == null ? Map.of() : Map.copyOf(ratePerSecond);
+    }
+
+    public int ratePerSecond(TaskEventType type) {
+        return ratePerSecond.getOrDefault(type, defaultRatePerSecond);
+    }
+}
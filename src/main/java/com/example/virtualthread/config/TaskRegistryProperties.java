@@ -0,0 +1,18 @@
+package com.example.virtualthread.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 실행 중 작업 레지스트리 설정
+ *
+ * @param capacity   동시에 추적하는 최대 작업 수 - 넘으면 새 작업은 추적하지 않음
+ * @param staleAfter 용량이 찼을 때 이 시간보다 오래 등록된 작업만 제거 (그보다 짧은 작업은 유지)
+ */
+@ConfigurationProperties(prefix = "virtual-thread.registry")
+public record TaskRegistryProperties(
+        @DefaultValue("10000") int capacity,
+        @DefaultValue("10m") Duration staleAfter) {
+}
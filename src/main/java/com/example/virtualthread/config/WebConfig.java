@@ -1,47 +1,76 @@
 package com.example.virtualthread.config;
 
+import com.example.virtualthread.context.ContextBindingHandlerAdapter;
+import com.example.virtualthread.context.RequestContexts;
+import com.example.virtualthread.executor.ManagedExecutors;
+import com.example.virtualthread.metrics.TaskExecutionMetricsDecorator;
+import com.example.virtualthread.metrics.TaskMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcRegistrations;
 import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.core.task.support.TaskExecutorAdapter;
 import org.springframework.scheduling.annotation.EnableAsync;
-
-import java.util.concurrent.Executors;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
 
 @Slf4j
 @Configuration
 @EnableAsync
-public class WebConfig {
+public class WebConfig implements WebMvcConfigurer {
 
     /**
-     * Tomcat이 가상 스레드를 사용하도록 설정
+     * Tomcat 요청 처리 Executor 설정 (virtual-thread.executors.tomcat)
      */
     @Bean
-    public TomcatProtocolHandlerCustomizer<?> protocolHandlerVirtualThreadExecutorCustomizer() {
-        log.info("Tomcat 가상 스레드 Executor 설정 활성화");
+    @Profile("!reactive")
+    public TomcatProtocolHandlerCustomizer<?> protocolHandlerVirtualThreadExecutorCustomizer(
+            ManagedExecutors managedExecutors) {
+        log.info("Tomcat Executor 설정 활성화");
         return protocolHandler -> {
-            protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
-            log.info("Tomcat이 가상 스레드 Executor로 설정됨");
+            protocolHandler.setExecutor(managedExecutors.get(ManagedExecutors.TOMCAT));
+            log.info("Tomcat Executor 설정됨");
         };
     }
 
     /**
-     * Spring MVC Async 작업을 위한 가상 스레드 Executor 설정
+     * Spring MVC Async 작업을 위한 Executor 설정 (virtual-thread.executors.application)
      */
     @Bean
-    public AsyncTaskExecutor applicationTaskExecutor() {
-        log.info("Spring MVC Async Task Executor를 가상 스레드로 설정");
-        return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+    public AsyncTaskExecutor applicationTaskExecutor(ManagedExecutors managedExecutors, TaskMetrics taskMetrics) {
+        log.info("Spring MVC Async Task Executor 설정");
+        TaskExecutorAdapter executor = new TaskExecutorAdapter(managedExecutors.get(ManagedExecutors.APPLICATION));
+        executor.setTaskDecorator(new TaskExecutionMetricsDecorator("applicationTaskExecutor", taskMetrics));
+        return executor;
     }
 
     /**
-     * 일반적인 비동기 작업을 위한 가상 스레드 Executor
+     * 일반적인 비동기 작업을 위한 Executor (virtual-thread.executors.async)
      */
     @Bean(name = "virtualThreadExecutor")
-    public AsyncTaskExecutor virtualThreadExecutor() {
-        log.info("가상 스레드 Executor 생성");
-        return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+    public AsyncTaskExecutor virtualThreadExecutor(ManagedExecutors managedExecutors, TaskMetrics taskMetrics) {
+        log.info("비동기 작업 Executor 생성");
+        TaskExecutorAdapter executor = new TaskExecutorAdapter(managedExecutors.get(ManagedExecutors.ASYNC));
+        executor.setTaskDecorator(new TaskExecutionMetricsDecorator("virtualThreadExecutor", taskMetrics));
+        return executor;
+    }
+
+    /**
+     * 컨트롤러 호출마다 요청 컨텍스트(요청 ID, endpoint, 데드라인)를 바인딩 (virtual-thread.context)
+     */
+    @Bean
+    @Profile("!reactive")
+    public WebMvcRegistrations requestContextRegistrations(RequestContextProperties properties) {
+        RequestContexts.setMode(properties.mode());
+        log.info("요청 컨텍스트 전파 모드: {}", properties.mode());
+        return new WebMvcRegistrations() {
+            @Override
+            public RequestMappingHandlerAdapter getRequestMappingHandlerAdapter() {
+                return new ContextBindingHandlerAdapter();
+            }
+        };
     }
 }
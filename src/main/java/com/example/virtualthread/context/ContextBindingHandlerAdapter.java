@@ -0,0 +1,74 @@
+package com.example.virtualthread.context;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 컨트롤러 메서드 호출을 요청 컨텍스트 바인딩으로 감싸는 HandlerAdapter
+ * <p>
+ * ScopedValue는 호출 범위로만 바인딩할 수 있으므로 preHandle/afterCompletion 쌍이 아니라
+ * 핸들러 호출 자체를 감싼다. 이 시점에는 매칭된 URI 패턴이 확정되어 있다.
+ */
+public class ContextBindingHandlerAdapter extends RequestMappingHandlerAdapter {
+
+    static final String REQUEST_ID_HEADER = "X-Request-Id";
+    static final String TIMEOUT_HEADER = "X-Request-Timeout-Ms";
+    static final String CLIENT_ID_HEADER = "X-Client-Id";
+    static final String PRIORITY_HEADER = "X-Priority";
+
+    private static final String CONTEXT_ATTRIBUTE = RequestContext.class.getName();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    protected ModelAndView invokeHandlerMethod(HttpServletRequest request, HttpServletResponse response,
+                                               HandlerMethod handlerMethod) throws Exception {
+        return RequestContexts.callWith(contextOf(request, response),
+                () -> super.invokeHandlerMethod(request, response, handlerMethod));
+    }
+
+    /**
+     * 비동기 결과 재디스패치에서도 같은 요청 ID를 쓰도록 요청 속성에 보관
+     */
+    private RequestContext contextOf(HttpServletRequest request, HttpServletResponse response) {
+        if (request.getAttribute(CONTEXT_ATTRIBUTE) instanceof RequestContext existing) {
+            return existing;
+        }
+
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (requestId == null || requestId.isBlank()) {
+            requestId = Long.toString(sequence.incrementAndGet(), 36);
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+
+        RequestContext context = new RequestContext(
+                requestId,
+                pattern != null ? pattern.toString() : RequestContext.NO_ENDPOINT,
+                RequestContext.NO_TASK,
+                deadline(request.getHeader(TIMEOUT_HEADER)),
+                clientId == null || clientId.isBlank() ? RequestContext.ANONYMOUS_CLIENT : clientId.trim(),
+                request.getHeader(PRIORITY_HEADER));
+        request.setAttribute(CONTEXT_ATTRIBUTE, context);
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        return context;
+    }
+
+    private static Instant deadline(String timeoutMillis) {
+        if (timeoutMillis == null) {
+            return null;
+        }
+        try {
+            return Instant.now().plusMillis(Long.parseLong(timeoutMillis.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
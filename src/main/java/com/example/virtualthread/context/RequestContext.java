@@ -0,0 +1,39 @@
+package com.example.virtualthread.context;
+
+import java.time.Instant;
+
+/**
+ * 요청 하나와 그 요청이 만든 작업에 따라다니는 불변 컨텍스트
+ *
+ * @param requestId 요청 식별자 (X-Request-Id 헤더 또는 자동 생성)
+ * @param endpoint  매칭된 URI 패턴 - 메트릭 endpoint 태그로 사용
+ * @param taskId    현재 실행 중인 작업 ID ({@link #NO_TASK}이면 작업 밖)
+ * @param deadline  요청 데드라인 (없으면 null)
+ * @param clientId  공정 스케줄링 단위가 되는 클라이언트 (X-Client-Id 헤더, 없으면 {@link #ANONYMOUS_CLIENT})
+ * @param priority  요청이 지정한 우선순위 클래스 이름 (X-Priority 헤더, 없으면 null)
+ */
+public record RequestContext(String requestId, String endpoint, int taskId, Instant deadline,
+                             String clientId, String priority) {
+
+    public static final String NO_ENDPOINT = "none";
+    public static final int NO_TASK = -1;
+    public static final String ANONYMOUS_CLIENT = "anonymous";
+
+    public static final RequestContext EMPTY =
+            new RequestContext(null, NO_ENDPOINT, NO_TASK, null, ANONYMOUS_CLIENT, null);
+
+    public RequestContext(String requestId, String endpoint, int taskId, Instant deadline) {
+        this(requestId, endpoint, taskId, deadline, ANONYMOUS_CLIENT, null);
+    }
+
+    public RequestContext withTaskId(int taskId) {
+        return new RequestContext(requestId, endpoint, taskId, deadline, clientId, priority);
+    }
+
+    /**
+     * 요청 데드라인과 주어진 시각 중 이른 쪽
+     */
+    public Instant earliestDeadline(Instant other) {
+        return deadline != null && deadline.isBefore(other) ? deadline : other;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.virtualthread.context;
+
+import ch.qos.logback.classic.pattern.ClassicConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * 로그 패턴 %requestContext - 로그를 남기는 스레드의 요청 컨텍스트를 출력
+ * <p>
+ * 호출 지점마다 스레드 이름이나 작업 ID를 문자열로 만들지 않고, 실제로 출력되는 이벤트에 대해서만 포맷한다.
+ * 동기 appender(콘솔)에서 로그 호출 스레드가 변환을 수행한다는 전제에 의존한다.
+ */
+public class RequestContextConverter extends ClassicConverter {
+
+    @Override
+    public String convert(ILoggingEvent event) {
+        RequestContext context = RequestContexts.current();
+        if (context == RequestContext.EMPTY) {
+            return "-";
+        }
+        StringBuilder builder = new StringBuilder(32);
+        builder.append(context.requestId() != null ? context.requestId() : "-");
+        if (context.taskId() != RequestContext.NO_TASK) {
+            builder.append(" task=").append(context.taskId());
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.virtualthread.context;
+
+import org.slf4j.MDC;
+
+/**
+ * 요청 컨텍스트 바인딩과 전파
+ * <p>
+ * 기본 모드는 {@link ScopedValue}로, 바인딩이 불변이고 구조적 서브태스크에 복사 없이 상속된다.
+ * THREAD_LOCAL 모드는 InheritableThreadLocal과 MDC를 사용하며, 자식 스레드 생성마다 맵이 복사된다.
+ * 어느 모드든 스레드를 재사용하는 Executor로 넘어갈 때는 {@link #wrap(Runnable)}으로 제출 시점의 컨텍스트를 옮긴다.
+ */
+public final class RequestContexts {
+
+    public enum Mode {
+        SCOPED_VALUE, THREAD_LOCAL
+    }
+
+    static final String MDC_REQUEST_ID = "requestId";
+    static final String MDC_TASK_ID = "taskId";
+
+    private static final ScopedValue<RequestContext> SCOPED = ScopedValue.newInstance();
+    private static final InheritableThreadLocal<RequestContext> INHERITED = new InheritableThreadLocal<>();
+
+    private static volatile Mode mode = Mode.SCOPED_VALUE;
+
+    private RequestContexts() {
+    }
+
+    public static void setMode(Mode newMode) {
+        mode = newMode;
+    }
+
+    public static Mode mode() {
+        return mode;
+    }
+
+    public static RequestContext current() {
+        RequestContext context = mode == Mode.SCOPED_VALUE ? SCOPED.orElse(null) : INHERITED.get();
+        return context != null ? context : RequestContext.EMPTY;
+    }
+
+    /**
+     * 현재 컨텍스트에 작업 ID를 더해 실행
+     */
+    public static <T, E extends Exception> T callForTask(int taskId, ContextCall<T, E> call) throws E {
+        return callWith(current().withTaskId(taskId), call);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T, E extends Exception> T callWith(RequestContext context, ContextCall<T, E> call) throws E {
+        if (mode == Mode.SCOPED_VALUE) {
+            try {
+                return ScopedValue.where(SCOPED, context).call(call::call);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                // call이 선언한 E 외의 checked 예외는 발생할 수 없음
+                throw (E) e;
+            }
+        }
+
+        RequestContext previous = INHERITED.get();
+        bindThreadLocal(context);
+        try {
+            return call.call();
+        } finally {
+            if (previous != null) {
+                bindThreadLocal(previous);
+            } else {
+                INHERITED.remove();
+                MDC.remove(MDC_REQUEST_ID);
+                MDC.remove(MDC_TASK_ID);
+            }
+        }
+    }
+
+    public static void runWith(RequestContext context, Runnable runnable) {
+        callWith(context, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    /**
+     * 제출 시점의 컨텍스트를 실행 스레드로 옮기는 Runnable
+     */
+    public static Runnable wrap(Runnable runnable) {
+        return wrap(current(), runnable);
+    }
+
+    public static Runnable wrap(RequestContext context, Runnable runnable) {
+        if (context == RequestContext.EMPTY) {
+            return runnable;
+        }
+        return () -> runWith(context, runnable);
+    }
+
+    private static void bindThreadLocal(RequestContext context) {
+        INHERITED.set(context);
+        if (context.requestId() != null) {
+            MDC.put(MDC_REQUEST_ID, context.requestId());
+        } else {
+            MDC.remove(MDC_REQUEST_ID);
+        }
+        if (context.taskId() != RequestContext.NO_TASK) {
+            MDC.put(MDC_TASK_ID, Integer.toString(context.taskId()));
+        } else {
+            MDC.remove(MDC_TASK_ID);
+        }
+    }
+
+    @FunctionalInterface
+    public interface ContextCall<T, E extends Exception> {
+        T call() throws E;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.virtualthread.controller;
+
+import com.example.virtualthread.job.BenchmarkConfig;
+import com.example.virtualthread.job.BenchmarkJobService;
+import com.example.virtualthread.job.BenchmarkJobStatus;
+import com.example.virtualthread.job.BenchmarkRun;
+import com.example.virtualthread.job.RunComparison;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 백그라운드 벤치마크 작업 - 등록 후 작업 ID로 진행 상황을 조회하고, 저장된 실행끼리 비교
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/benchmarks")
+@RequiredArgsConstructor
+@Profile("!reactive")
+public class BenchmarkJobController {
+
+    private static final int MAX_RUNS = 500;
+    private static final long PROGRESS_INTERVAL_MILLIS = 250;
+    private static final long STREAM_TIMEOUT_MILLIS = Duration.ofHours(1).toMillis();
+
+    private final BenchmarkJobService benchmarkJobService;
+
+    /**
+     * 벤치마크 작업 등록 - 202와 함께 작업 상태 URI를 반환
+     */
+    @PostMapping
+    public ResponseEntity<BenchmarkJobStatus> submit(@RequestBody(required = false) BenchmarkConfig config) {
+        BenchmarkJobStatus status = benchmarkJobService.submit(config != null ? config : BenchmarkConfig.defaults());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/benchmarks/" + status.jobId()))
+                .body(status);
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<BenchmarkJobStatus> status(@PathVariable String jobId) {
+        return ResponseEntity.of(benchmarkJobService.status(jobId));
+    }
+
+    /**
+     * 진행 상황 스트리밍 (SSE) - 완료 또는 실패 시 마지막 상태를 보내고 종료
+     */
+    @GetMapping(value = "/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> events(@PathVariable String jobId) {
+        if (benchmarkJobService.status(jobId).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+        Thread.ofVirtual().name("benchmark-events-" + jobId).start(() -> {
+            try {
+                while (true) {
+                    Optional<BenchmarkJobStatus> status = benchmarkJobService.status(jobId);
+                    if (status.isEmpty()) {
+                        emitter.complete();
+                        return;
+                    }
+                    emitter.send(SseEmitter.event().name(status.get().state()).data(status.get()));
+                    if (status.get().finished()) {
+                        emitter.complete();
+                        return;
+                    }
+                    Thread.sleep(PROGRESS_INTERVAL_MILLIS);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결 종료
+                log.debug("벤치마크 진행 스트림 종료 {} - {}", jobId, e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                emitter.complete();
+            }
+        });
+        return ResponseEntity.ok(emitter);
+    }
+
+    /**
+     * 저장된 실행 결과 - 최근 순
+     */
+    @GetMapping("/runs")
+    public List<BenchmarkRun> runs(@RequestParam(defaultValue = "20") int limit) {
+        return benchmarkJobService.recentRuns(Math.clamp(limit, 1, MAX_RUNS));
+    }
+
+    /**
+     * 두 실행 비교 - 임계값(%)을 넘어 나빠진 지표가 있으면 regression=true
+     */
+    @GetMapping("/compare")
+    public ResponseEntity<RunComparison> compare(
+            @RequestParam String baseline,
+            @RequestParam String candidate,
+            @RequestParam(required = false) Double thresholdPercent) {
+        return benchmarkJobService.compare(baseline, candidate, thresholdPercent)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.virtualthread.controller;
+
+import com.example.virtualthread.service.ReactiveTaskService;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * reactive 프로파일의 /api/v1/tasks - TaskController와 같은 경로, 파라미터, 응답 형식
+ * <p>
+ * 같은 부하 테스트(./gradlew loadTest)로 두 스택을 그대로 비교할 수 있도록 계약만 맞추고,
+ * 가상 스레드 전용 엔드포인트(virtual-threads, complex/structured, 스트리밍 등)는 제공하지 않는다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/tasks")
+@RequiredArgsConstructor
+@Profile("reactive")
+public class ReactiveTaskController {
+
+    private final ReactiveTaskService taskService;
+
+    @GetMapping("/sync")
+    public Mono<ResponseEntity<String>> testSync(@RequestParam(defaultValue = "100") int delay) {
+        log.info("동기 작업 요청 - 지연: {}ms", delay);
+
+        LocalDateTime start = LocalDateTime.now();
+        return taskService.processSyncTask(1, delay)
+                .map(result -> ResponseEntity.ok(String.format("%s (소요시간: %dms)",
+                        result, Duration.between(start, LocalDateTime.now()).toMillis())));
+    }
+
+    @GetMapping("/async")
+    public Mono<String> testAsync(@RequestParam(defaultValue = "100") int delay) {
+        log.info("비동기 작업 요청 - 지연: {}ms", delay);
+
+        return taskService.processAsyncTask(1, delay);
+    }
+
+    @GetMapping("/parallel")
+    public Mono<Map<String, Object>> testParallel(
+            @RequestParam(defaultValue = "10") @Min(0) int count,
+            @RequestParam(defaultValue = "100") int delay) {
+        log.info("병렬 작업 요청 - 개수: {}, 지연: {}ms", count, delay);
+
+        LocalDateTime start = LocalDateTime.now();
+        return taskService.processParallelTasks(count, delay)
+                .map(results -> {
+                    Duration duration = Duration.between(start, LocalDateTime.now());
+                    return Map.of(
+                            "totalTasks", count,
+                            "delayPerTask", delay,
+                            "totalTime", duration.toMillis() + "ms",
+                            "results", results,
+                            "efficiency", String.format("%.2f%%",
+                                    (double) (count * delay) / duration.toMillis() * 100)
+                    );
+                });
+    }
+
+    @GetMapping("/complex")
+    public Mono<String> testComplexOperation(@RequestParam(defaultValue = "1") int taskId) {
+        log.info("복잡한 블로킹 작업 요청 - 작업ID: {}", taskId);
+
+        return taskService.complexOperation(taskId);
+    }
+
+    /**
+     * 순차 처리(concatMap)와 병렬 처리(flatMap) 비교 - TaskController.benchmark와 같은 응답 형식
+     */
+    @GetMapping("/benchmark")
+    public Mono<Map<String, Object>> benchmark(
+            @RequestParam(defaultValue = "50") @Min(0) int taskCount,
+            @RequestParam(defaultValue = "100") int delay) {
+
+        log.info("성능 벤치마크 시작 - 작업수: {}, 지연: {}ms", taskCount, delay);
+
+        Mono<Duration> sequential = timed(Flux.range(0, taskCount)
+                .concatMap(i -> taskService.processSyncTask(i + 1000, delay))
+                .then());
+        Mono<Duration> parallel = timed(taskService.processParallelTasks(taskCount, delay).then());
+
+        // TaskController와 같이 순차 측정이 끝난 뒤 병렬 측정
+        return sequential.flatMap(syncDuration -> parallel.map(asyncDuration -> Map.<String, Object>of(
+                "testConfig", Map.of(
+                        "taskCount", taskCount,
+                        "delayPerTask", delay,
+                        "backend", "reactive"
+                ),
+                "syncProcessing", Map.of(
+                        "totalTime", syncDuration.toMillis() + "ms",
+                        "throughput", String.format("%.2f tasks/sec",
+                                (double) taskCount / syncDuration.toMillis() * 1000)
+                ),
+                "asyncProcessing", Map.of(
+                        "totalTime", asyncDuration.toMillis() + "ms",
+                        "throughput", String.format("%.2f tasks/sec",
+                                (double) taskCount / asyncDuration.toMillis() * 1000)
+                ),
+                "improvement", Map.of(
+                        "timeReduction", String.format("%.2f%%",
+                                (double) (syncDuration.toMillis() - asyncDuration.toMillis()) /
+                                        syncDuration.toMillis() * 100),
+                        "throughputIncrease", String.format("%.2fx",
+                                (double) syncDuration.toMillis() / asyncDuration.toMillis())
+                )
+        )));
+    }
+
+    @GetMapping("/health")
+    public Mono<Map<String, Object>> health() {
+        return Mono.just(Map.of(
+                "status", "UP",
+                "javaVersion", System.getProperty("java.version"),
+                "virtualThreadsSupported", true,
+                "stack", "reactive",
+                "timestamp", LocalDateTime.now().toString()
+        ));
+    }
+
+    /**
+     * 구독 시점부터 완료까지의 시간
+     */
+    private static Mono<Duration> timed(Mono<Void> work) {
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            return work.then(Mono.fromSupplier(() -> Duration.ofNanos(System.nanoTime() - startNanos)));
+        });
+    }
+}
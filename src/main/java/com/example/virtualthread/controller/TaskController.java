@@ -1,28 +1,62 @@
 package com.example.virtualthread.controller;
 
+import com.example.virtualthread.backend.FileIoReport;
+import com.example.virtualthread.backend.FileIoStage;
+import com.example.virtualthread.backend.FileIoStrategy;
+import com.example.virtualthread.backend.StageBackend;
+import com.example.virtualthread.service.ComplexResultCache;
+import com.example.virtualthread.service.FanOutPolicy;
+import com.example.virtualthread.service.ParallelTaskResult;
+import com.example.virtualthread.service.StructuredTaskResult;
+import com.example.virtualthread.service.TaskAdmissionLimiter;
+import com.example.virtualthread.service.TaskKind;
+import com.example.virtualthread.service.TaskRegistry;
 import com.example.virtualthread.service.TaskService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @RestController
 @RequestMapping("/api/v1/tasks")
 @RequiredArgsConstructor
+@Profile("!reactive")
 public class TaskController {
 
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private static final int MAX_FILE_IO_OPERATIONS = 100_000;
+    private static final int MAX_FILE_IO_CONCURRENCY = 1000;
+
+    private static final long STREAM_TIMEOUT_MILLIS = Duration.ofMinutes(5).toMillis();
+
     private final TaskService taskService;
+    private final ComplexResultCache complexResultCache;
+    private final ObjectMapper objectMapper;
+    private final StageBackend stageBackend;
+    private final FileIoStage fileIoStage;
+    private final TaskAdmissionLimiter admissionLimiter;
 
     /**
      * 동기 처리 테스트 엔드포인트
@@ -54,7 +88,7 @@ public class TaskController {
      */
     @GetMapping("/parallel")
     public ResponseEntity<Map<String, Object>> testParallel(
-            @RequestParam(defaultValue = "10") int count,
+            @RequestParam(defaultValue = "10") @Min(0) int count,
             @RequestParam(defaultValue = "100") int delay) {
         log.info("병렬 작업 요청 - 개수: {}, 지연: {}ms", count, delay);
 
@@ -74,12 +108,91 @@ public class TaskController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 병렬 작업 스트리밍 (SSE) - 완료 순서대로 result 이벤트, 마지막에 summary 이벤트
+     */
+    @GetMapping(value = "/parallel/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamParallelSse(
+            @RequestParam(defaultValue = "10") @Min(0) int count,
+            @RequestParam(defaultValue = "100") int delay) {
+        log.info("병렬 작업 스트리밍(SSE) 요청 - 개수: {}, 지연: {}ms", count, delay);
+
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+        streamParallel(emitter, count, delay,
+                (type, payload) -> emitter.send(SseEmitter.event().name(type).data(payload)));
+        return emitter;
+    }
+
+    /**
+     * 병렬 작업 스트리밍 (NDJSON) - 완료 순서대로 한 줄에 하나의 JSON 레코드
+     */
+    @GetMapping(value = "/parallel/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseBodyEmitter streamParallelNdjson(
+            @RequestParam(defaultValue = "10") @Min(0) int count,
+            @RequestParam(defaultValue = "100") int delay) {
+        log.info("병렬 작업 스트리밍(NDJSON) 요청 - 개수: {}, 지연: {}ms", count, delay);
+
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(STREAM_TIMEOUT_MILLIS);
+        streamParallel(emitter, count, delay,
+                (type, payload) -> emitter.send(objectMapper.writeValueAsString(payload) + "\n",
+                        MediaType.APPLICATION_NDJSON));
+        return emitter;
+    }
+
+    private void streamParallel(ResponseBodyEmitter emitter, int count, int delay, StreamWriter writer) {
+        AtomicBoolean open = new AtomicBoolean(true);
+        emitter.onCompletion(() -> open.set(false));
+        emitter.onTimeout(() -> open.set(false));
+        emitter.onError(e -> open.set(false));
+
+        taskService.streamParallelTasks(count, delay, (ParallelTaskResult result) -> open.get()
+                        && write(writer, open, "result", Map.of(
+                        "type", "result",
+                        "taskId", result.taskId(),
+                        "result", result.result())))
+                .whenComplete((summary, failure) -> {
+                    if (failure != null) {
+                        emitter.completeWithError(failure);
+                        return;
+                    }
+                    boolean written = open.get() && write(writer, open, "summary", Map.of(
+                            "type", "summary",
+                            "totalTasks", summary.totalTasks(),
+                            "completed", summary.completed(),
+                            "failed", summary.failed(),
+                            "cancelled", summary.cancelled(),
+                            "totalTime", summary.elapsedMillis() + "ms"));
+                    if (written) {
+                        emitter.complete();
+                    }
+                });
+    }
+
+    /**
+     * 쓰기 실패는 클라이언트 연결 종료로 간주 - false를 반환하여 남은 작업을 취소
+     */
+    private boolean write(StreamWriter writer, AtomicBoolean open, String type, Map<String, Object> payload) {
+        try {
+            writer.write(type, payload);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            open.set(false);
+            log.info("스트리밍 클라이언트 연결 종료 - {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    private interface StreamWriter {
+        void write(String type, Map<String, Object> payload) throws IOException;
+    }
+
     /**
      * 직접 가상 스레드 생성 테스트
      */
     @GetMapping("/virtual-threads")
     public ResponseEntity<Map<String, Object>> testVirtualThreads(
-            @RequestParam(defaultValue = "20") int count,
+            @RequestParam(defaultValue = "20") @Min(0) int count,
             @RequestParam(defaultValue = "50") int delay) {
         log.info("직접 가상 스레드 생성 요청 - 개수: {}", count);
 
@@ -98,26 +211,68 @@ public class TaskController {
     }
 
     /**
-     * 복잡한 블로킹 작업 테스트
+     * 복잡한 블로킹 작업 테스트 - 같은 taskId는 진행 중인 요청 병합 및 결과 캐시
+     * <p>
+     * CompletableFuture를 그대로 반환하여 MVC가 비동기로 완료될 때 결과(또는 예외 처리기 응답)를 쓰게 한다.
      */
     @GetMapping("/complex")
-    public ResponseEntity<CompletableFuture<String>> testComplexOperation(
+    public CompletableFuture<String> testComplexOperation(
             @RequestParam(defaultValue = "1") int taskId) {
         log.info("복잡한 블로킹 작업 요청 - 작업ID: {}", taskId);
 
-        return ResponseEntity.ok(taskService.complexBlockingOperation(taskId));
+        return complexResultCache.get(taskId);
     }
 
     /**
-     * 현재 활성화된 스레드 작업 정보 조회
+     * 구조적 동시성 팬아웃 테스트 - 블로킹 작업을 동시에 실행하고 데드라인 적용
+     */
+    @GetMapping("/complex/structured")
+    public ResponseEntity<Map<String, Object>> testStructuredComplexOperation(
+            @RequestParam(defaultValue = "1") int taskId,
+            @RequestParam(defaultValue = "FAIL_FAST") FanOutPolicy policy,
+            @RequestParam(defaultValue = "3000") long deadlineMs) {
+        log.info("구조적 팬아웃 작업 요청 - 작업ID: {}, 정책: {}, 데드라인: {}ms", taskId, policy, deadlineMs);
+
+        StructuredTaskResult result = taskService.complexStructuredOperation(
+                taskId, policy, Duration.ofMillis(deadlineMs));
+
+        // COLLECT_ALL은 부분 결과도 정상 응답, FAIL_FAST는 실패 원인에 따라 504/502
+        HttpStatus status = HttpStatus.OK;
+        if (!result.isComplete() && policy == FanOutPolicy.FAIL_FAST) {
+            status = result.deadlineExceeded() ? HttpStatus.GATEWAY_TIMEOUT : HttpStatus.BAD_GATEWAY;
+        }
+
+        Map<String, Object> response = Map.of(
+                "taskId", taskId,
+                "policy", policy,
+                "deadline", deadlineMs + "ms",
+                "totalTime", result.elapsedMillis() + "ms",
+                "results", result.results(),
+                "failures", result.failures(),
+                "deadlineExceeded", result.deadlineExceeded()
+        );
+
+        return ResponseEntity.status(status).body(response);
+    }
+
+    /**
+     * 현재 실행 중인 작업 조회 - 종류, 최소 실행 시간 필터와 페이지 지원
      */
     @GetMapping("/threads")
-    public ResponseEntity<Map<String, Object>> getActiveThreads() {
-        ConcurrentHashMap<Long, String> activeTasks = taskService.getActiveThreadTasks();
+    public ResponseEntity<Map<String, Object>> getActiveThreads(
+            @RequestParam(required = false) TaskKind kind,
+            @RequestParam(defaultValue = "0") long minRunningMs,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        TaskRegistry.TaskPage tasks = taskService.findRunningTasks(
+                kind, minRunningMs, Math.max(page, 0), Math.clamp(size, 1, MAX_PAGE_SIZE));
 
         Map<String, Object> response = Map.of(
-                "activeThreadCount", activeTasks.size(),
-                "threadTasks", activeTasks,
+                "activeThreadCount", taskService.runningTaskCount(),
+                "matchedTaskCount", tasks.matched(),
+                "page", tasks.page(),
+                "size", tasks.size(),
+                "threadTasks", tasks.items(),
                 "currentPlatformThread", Thread.currentThread().toString(),
                 "isVirtual", Thread.currentThread().isVirtual()
         );
@@ -130,7 +285,7 @@ public class TaskController {
      */
     @GetMapping("/benchmark")
     public ResponseEntity<Map<String, Object>> benchmark(
-            @RequestParam(defaultValue = "50") int taskCount,
+            @RequestParam(defaultValue = "50") @Min(0) int taskCount,
             @RequestParam(defaultValue = "100") int delay) {
 
         log.info("성능 벤치마크 시작 - 작업수: {}, 지연: {}ms", taskCount, delay);
@@ -150,7 +305,8 @@ public class TaskController {
         Map<String, Object> response = Map.of(
                 "testConfig", Map.of(
                         "taskCount", taskCount,
-                        "delayPerTask", delay
+                        "delayPerTask", delay,
+                        "backend", stageBackend.mode()
                 ),
                 "syncProcessing", Map.of(
                         "totalTime", syncDuration.toMillis() + "ms",
@@ -174,6 +330,32 @@ public class TaskController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 파일 I/O 전략 비교 - 전략별 처리량과 carrier 스레드 증가량
+     * <p>
+     * strategy를 생략하면 모든 전략을 순서대로 측정한다. 늘어난 carrier는 유휴 30초 뒤에 줄어들므로
+     * 앞선 전략의 영향을 배제하려면 전략별로 따로 호출하는 편이 정확하다.
+     * 동시에 실행되는 파일 작업(concurrency)도 팬아웃이므로 다른 팬아웃 엔드포인트와 같은 수락 제어 permit을 확보한다.
+     */
+    @GetMapping("/file-io/benchmark")
+    public ResponseEntity<List<FileIoReport>> fileIoBenchmark(
+            @RequestParam(required = false) FileIoStrategy strategy,
+            @RequestParam(defaultValue = "1000") @Min(1) @Max(MAX_FILE_IO_OPERATIONS) int operations,
+            @RequestParam(defaultValue = "200") @Min(1) @Max(MAX_FILE_IO_CONCURRENCY) int concurrency) {
+
+        List<FileIoStrategy> strategies = strategy != null ? List.of(strategy) : List.of(FileIoStrategy.values());
+        List<FileIoReport> reports = new ArrayList<>();
+        try (TaskAdmissionLimiter.Permit ignored = admissionLimiter.acquire(concurrency)) {
+            for (FileIoStrategy each : strategies) {
+                reports.add(fileIoStage.benchmark(each, operations, concurrency));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("작업 중단됨", e);
+        }
+        return ResponseEntity.ok(reports);
+    }
+
     /**
      * Health Check 엔드포인트
      */
@@ -0,0 +1,83 @@
+package com.example.virtualthread.controller;
+
+import com.example.virtualthread.bulkhead.BulkheadFullException;
+import com.example.virtualthread.config.AdmissionProperties;
+import com.example.virtualthread.service.DegradedResultException;
+import com.example.virtualthread.service.TaskRejectedException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class TaskExceptionHandler {
+
+    private final AdmissionProperties admissionProperties;
+
+    /**
+     * 수락 제어 거절 - 팬아웃 상한 초과는 다시 보내도 성공할 수 없으므로 Retry-After 없이 400,
+     * 과부하(대기열 포화/대기 시간 초과)는 일시적이므로 Retry-After와 함께 503
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<Map<String, Object>> handleRejected(TaskRejectedException e) {
+        if (e.getReason() == TaskRejectedException.Reason.FAN_OUT_LIMIT) {
+            HttpStatus status = HttpStatus.BAD_REQUEST;
+            return ResponseEntity.status(status)
+                    .body(Map.of(
+                            "status", status.value(),
+                            "reason", e.getReason(),
+                            "message", e.getMessage()
+                    ));
+        }
+
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        long retryAfterSeconds = Math.max(1, admissionProperties.queueTimeout().toSeconds());
+
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(Map.of(
+                        "status", status.value(),
+                        "reason", e.getReason(),
+                        "message", e.getMessage()
+                ));
+    }
+
+    /**
+     * 다운스트림 벌크헤드 포화 - 503
+     */
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<Map<String, Object>> handleBulkheadFull(BulkheadFullException e) {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of(
+                        "status", status.value(),
+                        "reason", "BULKHEAD_FULL",
+                        "bulkhead", e.getBulkhead(),
+                        "message", e.getMessage()
+                ));
+    }
+
+    /**
+     * 복잡한 작업의 일부 단계 실패 - 부분 결과와 실패한 단계를 담아 503
+     */
+    @ExceptionHandler(DegradedResultException.class)
+    public ResponseEntity<Map<String, Object>> handleDegraded(DegradedResultException e) {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of(
+                        "status", status.value(),
+                        "reason", "DEGRADED",
+                        "failedStages", e.getFailedStages(),
+                        "partialResult", e.getPartialResult()
+                ));
+    }
+}
@@ -0,0 +1,330 @@
+package com.example.virtualthread.dispatch;
+
+import com.example.virtualthread.config.FairDispatchProperties;
+import com.example.virtualthread.context.RequestContext;
+import com.example.virtualthread.context.RequestContexts;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 팬아웃 작업을 클라이언트별 큐에 담아 가중 라운드 로빈으로 실행 예산에 배정하는 디스패처
+ * <p>
+ * 플로(클라이언트 + 우선순위 클래스)마다 큐를 두고, 차례가 된 플로는 가중치만큼의 deficit을 받아
+ * 그 수만큼 작업을 꺼낸다. 작업 비용은 모두 1이므로 Deficit Round Robin이 가중 라운드 로빈과 같아진다.
+ * 한 클라이언트가 큰 배치를 보내도 예산이 빌 때마다 다른 플로가 가중치 비율대로 끼어들 수 있어
+ * 소규모 interactive 요청의 지연이 배치 크기에 끌려가지 않는다.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class FairTaskDispatcher {
+
+    private static final String OTHER_CLIENT = "other";
+
+    private final FairDispatchProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition dispatchable = lock.newCondition();
+    // 대기 작업이 있는 플로의 라운드 순서
+    private final ArrayDeque<Flow> activeFlows = new ArrayDeque<>();
+    private final Map<FlowKey, Flow> flows = new HashMap<>();
+    private final Map<FlowKey, FlowMeters> flowMeters = new HashMap<>();
+    private final Set<String> trackedClients = new HashSet<>();
+    private final Map<PriorityClass, Timer> queueWait = new EnumMap<>(PriorityClass.class);
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private Thread dispatcher;
+    private boolean stopped;
+
+    public FairTaskDispatcher(FairDispatchProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("tasks.dispatch.budget.in-use", running, AtomicInteger::get)
+                .description("실행 예산 중 사용 중인 슬롯 수")
+                .register(meterRegistry);
+        Gauge.builder("tasks.dispatch.budget.limit", properties, FairDispatchProperties::executionBudget)
+                .description("팬아웃 작업 실행 예산")
+                .register(meterRegistry);
+        Gauge.builder("tasks.dispatch.queued", queued, AtomicInteger::get)
+                .description("실행 예산을 기다리는 전체 작업 수")
+                .register(meterRegistry);
+        for (PriorityClass priority : PriorityClass.values()) {
+            queueWait.put(priority, Timer.builder("tasks.dispatch.queue.wait")
+                    .description("작업이 큐에 들어와 실행 예산을 배정받기까지의 대기 시간")
+                    .tag("priority", priority.tag())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        if (properties.enabled()) {
+            dispatcher = Thread.ofVirtual().name("fair-task-dispatcher").start(this::dispatchLoop);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (dispatcher == null) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            // 이후 제출은 큐에 넣지 않고 거절 - 꺼내 줄 디스패처가 없어 호출자가 join()에서 영원히 기다리게 된다
+            stopped = true;
+            dispatcher.interrupt();
+            for (Flow flow : activeFlows) {
+                WorkItem<?> item;
+                while ((item = flow.queue.poll()) != null) {
+                    item.result().completeExceptionally(new CancellationException("디스패처가 종료되었습니다"));
+                }
+            }
+            activeFlows.clear();
+            flows.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 요청 컨텍스트의 클라이언트와 팬아웃 크기로 플로 결정
+     */
+    public FlowKey flowFor(int fanOut) {
+        RequestContext context = RequestContexts.current();
+        return new FlowKey(context.clientId(),
+                PriorityClass.resolve(context.priority(), fanOut, properties.interactiveMaxFanOut()));
+    }
+
+    /**
+     * 작업을 플로 큐에 넣고, 차례가 되면 target에서 제출 시점의 요청 컨텍스트로 실행
+     */
+    public <T> CompletableFuture<T> submit(FlowKey key, Executor target, Callable<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        RequestContext context = RequestContexts.current();
+
+        if (dispatcher == null) {
+            try {
+                target.execute(() -> complete(result, context, task));
+            } catch (RejectedExecutionException e) {
+                result.completeExceptionally(e);
+            }
+            return result;
+        }
+
+        lock.lock();
+        try {
+            if (stopped) {
+                result.completeExceptionally(new RejectedExecutionException("디스패처가 종료되었습니다"));
+                return result;
+            }
+            Flow flow = flows.computeIfAbsent(key, this::newFlow);
+            flow.queue.add(new WorkItem<>(task, context, target, result, System.nanoTime()));
+            if (!flow.active) {
+                flow.active = true;
+                activeFlows.addLast(flow);
+            }
+            flow.meters.queued.incrementAndGet();
+            queued.incrementAndGet();
+            dispatchable.signal();
+        } finally {
+            lock.unlock();
+        }
+        return result;
+    }
+
+    private void dispatchLoop() {
+        log.info("공정 디스패처 시작 - 실행 예산: {}, 가중치 interactive {} / batch {}",
+                properties.executionBudget(), properties.interactiveWeight(), properties.batchWeight());
+
+        while (!Thread.currentThread().isInterrupted()) {
+            Dispatch dispatch;
+            lock.lock();
+            try {
+                while (running.get() >= properties.executionBudget() || activeFlows.isEmpty()) {
+                    dispatchable.await();
+                }
+                dispatch = next();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                lock.unlock();
+            }
+            launch(dispatch);
+        }
+    }
+
+    /**
+     * 라운드 맨 앞 플로에서 작업 하나를 꺼냄 - lock 보유 상태에서 호출
+     * <p>
+     * deficit이 0인 플로는 새 차례이므로 가중치만큼 충전한다. 큐가 비면 라운드에서 빠지고(남은 deficit 소멸),
+     * deficit을 다 쓰면 라운드 맨 뒤로 이동한다.
+     */
+    private Dispatch next() {
+        Flow flow = activeFlows.peekFirst();
+        if (flow.deficit == 0) {
+            flow.deficit = flow.weight;
+        }
+        WorkItem<?> item = flow.queue.poll();
+        flow.deficit--;
+
+        if (flow.queue.isEmpty()) {
+            activeFlows.pollFirst();
+            flow.active = false;
+            flow.deficit = 0;
+            flows.remove(flow.key);
+        } else if (flow.deficit == 0) {
+            activeFlows.addLast(activeFlows.pollFirst());
+        }
+
+        queued.decrementAndGet();
+        running.incrementAndGet();
+        flow.meters.queued.decrementAndGet();
+        flow.meters.running.incrementAndGet();
+        queueWait.get(flow.key.priority()).record(System.nanoTime() - item.enqueuedNanos(), TimeUnit.NANOSECONDS);
+        return new Dispatch(item, flow.meters);
+    }
+
+    private void launch(Dispatch dispatch) {
+        WorkItem<?> item = dispatch.item();
+        try {
+            item.target().execute(() -> {
+                try {
+                    complete(item);
+                } finally {
+                    release(dispatch.meters());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            item.result().completeExceptionally(e);
+            release(dispatch.meters());
+        }
+    }
+
+    private void release(FlowMeters meters) {
+        meters.running.decrementAndGet();
+        meters.served.increment();
+
+        lock.lock();
+        try {
+            running.decrementAndGet();
+            dispatchable.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static <T> void complete(WorkItem<T> item) {
+        complete(item.result(), item.context(), item.task());
+    }
+
+    private static <T> void complete(CompletableFuture<T> result, RequestContext context, Callable<T> task) {
+        try {
+            result.complete(RequestContexts.callWith(context, task::call));
+        } catch (Exception e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    private Flow newFlow(FlowKey key) {
+        int weight = (key.priority() == PriorityClass.INTERACTIVE
+                ? properties.interactiveWeight()
+                : properties.batchWeight()) * properties.clientWeight(key.clientId());
+        return new Flow(key, weight, meters(key));
+    }
+
+    /**
+     * client 태그 카디널리티를 제한 - 추적 한도를 넘은 클라이언트는 "other"로 집계
+     */
+    private FlowMeters meters(FlowKey key) {
+        String client = key.clientId();
+        if (!trackedClients.contains(client)) {
+            if (trackedClients.size() < properties.maxTrackedClients()) {
+                trackedClients.add(client);
+            } else {
+                client = OTHER_CLIENT;
+            }
+        }
+        return flowMeters.computeIfAbsent(new FlowKey(client, key.priority()), this::registerMeters);
+    }
+
+    private FlowMeters registerMeters(FlowKey key) {
+        FlowMeters meters = new FlowMeters(new AtomicInteger(), new AtomicInteger(),
+                Counter.builder("tasks.dispatch.client.served")
+                        .description("실행을 마친 작업 수")
+                        .tag("client", key.clientId())
+                        .tag("priority", key.priority().tag())
+                        .register(meterRegistry));
+        Gauge.builder("tasks.dispatch.client.queued", meters.queued, AtomicInteger::get)
+                .description("클라이언트별 대기 작업 수")
+                .tag("client", key.clientId())
+                .tag("priority", key.priority().tag())
+                .register(meterRegistry);
+        Gauge.builder("tasks.dispatch.client.running", meters.running, AtomicInteger::get)
+                .description("클라이언트별 실행 중 작업 수")
+                .tag("client", key.clientId())
+                .tag("priority", key.priority().tag())
+                .register(meterRegistry);
+        return meters;
+    }
+
+    /**
+     * 스케줄링 단위 - 같은 클라이언트라도 우선순위 클래스가 다르면 별도 플로
+     */
+    public record FlowKey(String clientId, PriorityClass priority) {
+    }
+
+    private static final class Flow {
+
+        private final FlowKey key;
+        private final int weight;
+        private final FlowMeters meters;
+        private final ArrayDeque<WorkItem<?>> queue = new ArrayDeque<>();
+        private int deficit;
+        private boolean active;
+
+        private Flow(FlowKey key, int weight, FlowMeters meters) {
+            this.key = key;
+            this.weight = weight;
+            this.meters = meters;
+        }
+    }
+
+    private record FlowMeters(AtomicInteger queued, AtomicInteger running, Counter served) {
+    }
+
+    private record WorkItem<T>(Callable<T> task, RequestContext context, Executor target,
+                               CompletableFuture<T> result, long enqueuedNanos) {
+    }
+
+    private record Dispatch(WorkItem<?> item, FlowMeters meters) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.virtualthread.dispatch;
+
+import java.util.Locale;
+
+/**
+ * 공정 스케줄링 우선순위 클래스
+ */
+public enum PriorityClass {
+
+    /**
+     * 사용자가 응답을 기다리는 소규모 팬아웃 - 라운드당 더 많은 작업을 배정받는다
+     */
+    INTERACTIVE,
+
+    /**
+     * 처리량 위주의 대규모 팬아웃
+     */
+    BATCH;
+
+    /**
+     * 헤더로 지정된 클래스가 있으면 그대로, 없거나 알 수 없으면 팬아웃 크기로 분류
+     */
+    public static PriorityClass resolve(String hint, int fanOut, int interactiveMaxFanOut) {
+        if (hint != null) {
+            try {
+                return valueOf(hint.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ignored) {
+                // 알 수 없는 값은 크기 기준으로 분류
+            }
+        }
+        return fanOut <= interactiveMaxFanOut ? INTERACTIVE : BATCH;
+    }
+
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
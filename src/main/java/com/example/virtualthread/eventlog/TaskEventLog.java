@@ -0,0 +1,237 @@
+package com.example.virtualthread.eventlog;
+
+import com.example.virtualthread.config.TaskEventLogProperties;
+import com.example.virtualthread.context.RequestContexts;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 작업 이벤트 로그 - 작업 스레드는 링 버퍼에 이벤트를 넣기만 하고, 단일 기록 스레드가 모아서 파일에 쓴다
+ * <p>
+ * 작업 스레드의 비용은 호출 지점별 초당 상한 확인과 슬롯 하나를 채우는 것뿐이며 문자열 포맷, 인코딩,
+ * 파일 I/O는 모두 기록 스레드에서 배치 단위로 일어난다. 상한을 넘은 이벤트와 버퍼가 가득 차서 버린 이벤트는
+ * 호출 지점별 카운터로 남긴다. 비활성화하면 기존처럼 애플리케이션 로그에 바로 기록한다.
+ */
+@Slf4j
+@Component
+public class TaskEventLog {
+
+    private static final int LINE_CAPACITY = 96;
+
+    private final TaskEventLogProperties properties;
+    private final TaskEventRingBuffer buffer;
+    private final CallSite[] sites;
+    private final Path file;
+    private final Counter written;
+    private final Counter writeFailures;
+    private final StringBuilder batch;
+    private final TaskEventRingBuffer.EventHandler formatter = this::format;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public TaskEventLog(TaskEventLogProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.buffer = new TaskEventRingBuffer(properties.bufferSize());
+        this.file = Path.of(properties.file()).toAbsolutePath().normalize();
+        this.batch = new StringBuilder(properties.batchSize() * LINE_CAPACITY);
+
+        TaskEventType[] types = TaskEventType.values();
+        this.sites = new CallSite[types.length];
+        for (TaskEventType type : types) {
+            sites[type.ordinal()] = new CallSite(properties.ratePerSecond(type),
+                    Counter.builder("task.events.sampled")
+                            .description("호출 지점별 초당 상한을 넘어 기록하지 않은 작업 이벤트 수")
+                            .tag("site", type.site())
+                            .register(meterRegistry),
+                    Counter.builder("task.events.dropped")
+                            .description("링 버퍼가 가득 차서 버린 작업 이벤트 수")
+                            .tag("site", type.site())
+                            .register(meterRegistry));
+        }
+
+        this.written = Counter.builder("task.events.written")
+                .description("파일에 기록한 작업 이벤트 수")
+                .register(meterRegistry);
+        this.writeFailures = Counter.builder("task.events.write.failures")
+                .description("작업 이벤트 파일 쓰기 실패 횟수")
+                .register(meterRegistry);
+        Gauge.builder("task.events.buffer.used", buffer, TaskEventRingBuffer::size)
+                .description("기록 대기 중인 작업 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("task.events.buffer.capacity", buffer, TaskEventRingBuffer::capacity)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!properties.enabled()) {
+            log.info("작업 이벤트 로그 비활성화 - 작업 이벤트를 애플리케이션 로그에 기록");
+            return;
+        }
+
+        Path parent = file.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+
+        running = true;
+        // 파일 쓰기가 캐리어 스레드를 점유하지 않도록 기록 스레드는 플랫폼 스레드로 둔다
+        writerThread = Thread.ofPlatform()
+                .name("task-event-writer")
+                .daemon(true)
+                .start(() -> writeLoop(writer));
+        log.info("작업 이벤트 로그 시작 - 파일: {}, 버퍼: {}, 배치: {}", file, buffer.capacity(), properties.batchSize());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writerThread == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writerThread);
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * 값이 없는 작업 이벤트 기록
+     */
+    public void record(TaskEventType type, int taskId) {
+        record(type, taskId, 0);
+    }
+
+    /**
+     * 작업 이벤트 기록 - 요청 ID는 현재 요청 컨텍스트에서 가져온다
+     *
+     * @param value 이벤트 값 ({@link TaskEventType#valueName()}이 null이면 출력하지 않음)
+     */
+    public void record(TaskEventType type, int taskId, long value) {
+        if (!properties.enabled()) {
+            logDirectly(type, value);
+            return;
+        }
+
+        CallSite site = sites[type.ordinal()];
+        long nowMillis = System.currentTimeMillis();
+        if (!site.tryAcquire(nowMillis)) {
+            site.sampled.increment();
+            return;
+        }
+        if (!buffer.offer(type.ordinal(), taskId, value, nowMillis, RequestContexts.current().requestId())) {
+            site.dropped.increment();
+        }
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    private void logDirectly(TaskEventType type, long value) {
+        if (type.valueName() == null) {
+            log.info(type.message());
+        } else {
+            log.info("{} {}={}", type.message(), type.valueName(), value);
+        }
+    }
+
+    private void writeLoop(Writer writer) {
+        long pollNanos = properties.pollInterval().toNanos();
+        try (writer) {
+            while (true) {
+                // 종료 요청을 먼저 읽어야 종료 직전에 들어온 이벤트까지 비운 뒤 끝낼 수 있음
+                boolean stopping = !running;
+                int drained = buffer.drain(properties.batchSize(), formatter);
+                if (drained > 0) {
+                    writeBatch(writer, drained);
+                } else if (stopping) {
+                    return;
+                } else {
+                    LockSupport.parkNanos(pollNanos);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("작업 이벤트 로그 파일 닫기 실패 - {}", file, e);
+        }
+    }
+
+    private void writeBatch(Writer writer, int events) {
+        try {
+            writer.append(batch);
+            writer.flush();
+            written.increment(events);
+        } catch (IOException e) {
+            writeFailures.increment();
+            log.warn("작업 이벤트 {}건 기록 실패 - {}", events, file, e);
+        } finally {
+            batch.setLength(0);
+        }
+    }
+
+    /**
+     * 기록 스레드에서만 호출 - 예: 2026-01-01T00:00:00.123Z [req-1 task=3] [동기 작업] 완료 elapsedMs=102
+     */
+    private void format(int typeOrdinal, int taskId, long value, long epochMillis, String requestId) {
+        TaskEventType type = TaskEventType.of(typeOrdinal);
+        DateTimeFormatter.ISO_INSTANT.formatTo(Instant.ofEpochMilli(epochMillis), batch);
+        batch.append(" [").append(requestId != null ? requestId : "-")
+                .append(" task=").append(taskId)
+                .append("] ").append(type.message());
+        if (type.valueName() != null) {
+            batch.append(' ').append(type.valueName()).append('=').append(value);
+        }
+        batch.append('\n');
+    }
+
+    /**
+     * 호출 지점별 초당 기록 상한 - 초가 바뀌면 카운트를 초기화하는 고정 윈도
+     * <p>
+     * 윈도 경계에서 초기화와 증가가 겹치면 상한을 약간 넘길 수 있지만 락 없이 판정하는 쪽을 택한다.
+     */
+    private static final class CallSite {
+
+        private final int limit;
+        private final Counter sampled;
+        private final Counter dropped;
+        private final AtomicLong windowSecond = new AtomicLong(Long.MIN_VALUE);
+        private final AtomicInteger count = new AtomicInteger();
+
+        private CallSite(int limit, Counter sampled, Counter dropped) {
+            this.limit = limit;
+            this.sampled = sampled;
+            this.dropped = dropped;
+        }
+
+        boolean tryAcquire(long nowMillis) {
+            if (limit < 0) {
+                return true;
+            }
+            long second = nowMillis / 1000;
+            long current = windowSecond.get();
+            if (current != second && windowSecond.compareAndSet(current, second)) {
+                count.set(0);
+            }
+            return count.incrementAndGet() <= limit;
+        }
+    }
+}
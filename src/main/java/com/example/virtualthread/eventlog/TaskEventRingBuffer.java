@@ -0,0 +1,108 @@
+package com.example.virtualthread.eventlog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 다중 생산자 / 단일 소비자 고정 크기 링 버퍼 (락 없음)
+ * <p>
+ * 슬롯은 미리 할당한 필드별 배열이라 이벤트마다 객체를 만들지 않는다. 생산자는 CAS로 시퀀스를 예약하고
+ * 슬롯을 채운 뒤 {@code published}에 시퀀스를 release 저장해 공개하며, 소비자는 공개된 시퀀스까지만 읽는다.
+ * 버퍼가 가득 차면 기다리지 않고 false를 반환한다 (호출 측이 버린 이벤트로 집계).
+ */
+final class TaskEventRingBuffer {
+
+    /**
+     * 소비자가 슬롯 하나를 읽을 때 호출 - 슬롯 필드를 그대로 넘겨 중간 객체를 만들지 않음
+     */
+    @FunctionalInterface
+    interface EventHandler {
+        void onEvent(int type, int taskId, long value, long epochMillis, String requestId);
+    }
+
+    private final int mask;
+    private final int[] types;
+    private final int[] taskIds;
+    private final long[] values;
+    private final long[] timestamps;
+    private final String[] requestIds;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+
+    TaskEventRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("버퍼 크기는 2 이상의 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.types = new int[capacity];
+        this.taskIds = new int[capacity];
+        this.values = new long[capacity];
+        this.timestamps = new long[capacity];
+        this.requestIds = new String[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+    }
+
+    /**
+     * 이벤트 하나 추가 - 버퍼가 가득 찼으면 false
+     */
+    boolean offer(int type, int taskId, long value, long epochMillis, String requestId) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed.get() > mask) {
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        int index = (int) (sequence & mask);
+        types[index] = type;
+        taskIds[index] = taskId;
+        values[index] = value;
+        timestamps[index] = epochMillis;
+        requestIds[index] = requestId;
+        // 슬롯 쓰기가 소비자에게 보인 뒤에 공개되도록 release 저장
+        published.lazySet(index, sequence);
+        return true;
+    }
+
+    /**
+     * 공개된 이벤트를 최대 maxEvents개까지 순서대로 처리 - 단일 소비자 스레드에서만 호출
+     *
+     * @return 처리한 이벤트 수
+     */
+    int drain(int maxEvents, EventHandler handler) {
+        long next = consumed.get();
+        int count = 0;
+        while (count < maxEvents) {
+            int index = (int) (next & mask);
+            if (published.get(index) != next) {
+                break;
+            }
+            handler.onEvent(types[index], taskIds[index], values[index], timestamps[index], requestIds[index]);
+            requestIds[index] = null;
+            next++;
+            count++;
+        }
+        if (count > 0) {
+            // 처리를 마친 뒤에 슬롯을 생산자에게 돌려줌
+            consumed.lazySet(next);
+        }
+        return count;
+    }
+
+    /**
+     * 예약되었지만 아직 소비되지 않은 이벤트 수
+     */
+    int size() {
+        long consumedSequence = consumed.get();
+        return (int) (claimed.get() - consumedSequence);
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+}
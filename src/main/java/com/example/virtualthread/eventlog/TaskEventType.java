@@ -0,0 +1,58 @@
+package com.example.virtualthread.eventlog;
+
+import java.util.Locale;
+
+/**
+ * 작업 이벤트 종류 - 작업별 로그를 남기던 호출 지점 하나에 하나씩 대응
+ * <p>
+ * 메시지 문자열은 상수이고 값(지연, 소요시간)은 long으로 따로 받으므로,
+ * 이벤트를 만드는 쪽에서는 문자열을 조립하지 않고 기록 스레드가 파일에 쓸 때만 포맷한다.
+ */
+public enum TaskEventType {
+
+    SYNC_STARTED("[동기 작업] 시작", "delayMs"),
+    SYNC_COMPLETED("[동기 작업] 완료", "elapsedMs"),
+    ASYNC_STARTED("[비동기 작업] 시작", "delayMs"),
+    ASYNC_COMPLETED("[비동기 작업] 완료", "elapsedMs"),
+    DIRECT_STARTED("[직접 생성 가상 스레드] 시작", "delayMs"),
+    DIRECT_COMPLETED("[직접 생성 가상 스레드] 완료", "elapsedMs"),
+    COMPLEX_STARTED("[복잡한 작업] 시작", null),
+    COMPLEX_COMPLETED("[복잡한 작업] 종료", "elapsedMs"),
+    DB_QUERY("DB 쿼리 지연 시뮬레이션", null),
+    API_CALL("외부 API 호출 지연 시뮬레이션", null),
+    FILE_OPERATION("파일 작업 지연 시뮬레이션", null);
+
+    private static final TaskEventType[] VALUES = values();
+
+    private final String message;
+    private final String valueName;
+    private final String site;
+
+    TaskEventType(String message, String valueName) {
+        this.message = message;
+        this.valueName = valueName;
+        this.site = name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    public String message() {
+        return message;
+    }
+
+    /**
+     * 이벤트 값의 이름 - 값이 없는 이벤트면 null
+     */
+    public String valueName() {
+        return valueName;
+    }
+
+    /**
+     * 설정 키와 메트릭 site 태그에 쓰는 이름 (예: db-query)
+     */
+    public String site() {
+        return site;
+    }
+
+    static TaskEventType of(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.virtualthread.executor;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이름이 지정된 스레드를 생성하면서 생성/실행 중 스레드 수를 집계하는 ThreadFactory
+ */
+public class CountingThreadFactory implements ThreadFactory {
+
+    private final ThreadFactory delegate;
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicInteger alive = new AtomicInteger();
+
+    public CountingThreadFactory(ThreadFactory delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+        Thread thread = delegate.newThread(() -> {
+            alive.incrementAndGet();
+            try {
+                runnable.run();
+            } finally {
+                alive.decrementAndGet();
+            }
+        });
+        if (thread != null) {
+            created.incrementAndGet();
+        }
+        return thread;
+    }
+
+    public long created() {
+        return created.get();
+    }
+
+    public int alive() {
+        return alive.get();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.virtualthread.executor;
+
+/**
+ * Executor 실행 전략
+ */
+public enum ExecutorStrategy {
+
+    /**
+     * 작업마다 새 가상 스레드 (Executors.newVirtualThreadPerTaskExecutor와 동일)
+     */
+    VIRTUAL_PER_TASK,
+
+    /**
+     * 고정 크기 플랫폼 스레드 풀 (pool-size)
+     */
+    PLATFORM_POOL,
+
+    /**
+     * 작업마다 가상 스레드를 만들되 동시에 실행되는 작업 수를 max-concurrency로 제한
+     */
+    BOUNDED_VIRTUAL
+}
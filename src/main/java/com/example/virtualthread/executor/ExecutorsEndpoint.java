@@ -0,0 +1,32 @@
+package com.example.virtualthread.executor;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 적용된 Executor 전략과 스케줄러 설정 조회 - GET /actuator/executors
+ * <p>
+ * JDK 21에는 가상 스레드 carrier 스케줄러를 교체하는 공개 API가 없다 ({@code Thread.ofVirtual()}에 scheduler 지정 불가).
+ * 모든 가상 스레드는 JDK 내장 ForkJoinPool 스케줄러 하나를 공유하며, 조정할 수 있는 것은
+ * {@code jdk.virtualThreadScheduler.*} 시스템 프로퍼티(병렬도, 최대 풀 크기, 최소 실행 가능 수)뿐이다.
+ * 따라서 scheduler 항목은 교체 가능한 전략이 아니라 이 프로퍼티들의 실제 적용값이다.
+ */
+@Component
+@Endpoint(id = "executors")
+@RequiredArgsConstructor
+public class ExecutorsEndpoint {
+
+    private final ManagedExecutors managedExecutors;
+
+    @ReadOperation
+    public Map<String, Object> executors() {
+        return Map.of(
+                "scheduler", VirtualThreadSchedulerSettings.effective(),
+                "executors", managedExecutors.snapshot()
+        );
+    }
+}
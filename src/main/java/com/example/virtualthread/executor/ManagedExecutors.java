@@ -0,0 +1,123 @@
+package com.example.virtualthread.executor;
+
+import com.example.virtualthread.config.ExecutorProperties;
+import com.example.virtualthread.config.ExecutorProperties.ExecutorSpec;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 설정된 전략으로 생성한 이름 있는 Executor 모음 (tomcat, application, async)
+ * <p>
+ * 같은 빌드에서 application.yml만 바꿔 전략을 A/B 비교할 수 있도록 Executor 생성을 한 곳에 모으고,
+ * Executor별 스레드 생성/실행 수를 메트릭과 actuator(/actuator/executors)로 노출한다.
+ * reactive 프로파일에서는 Tomcat이 기동하지 않으므로 tomcat Executor를 만들지 않는다.
+ */
+@Slf4j
+@Component
+public class ManagedExecutors {
+
+    public static final String TOMCAT = "tomcat";
+    public static final String APPLICATION = "application";
+    public static final String ASYNC = "async";
+
+    private final Map<String, ManagedExecutor> executors = new LinkedHashMap<>();
+
+    public ManagedExecutors(ExecutorProperties properties, MeterRegistry meterRegistry, Environment environment) {
+        if (!environment.acceptsProfiles(Profiles.of("reactive"))) {
+            register(TOMCAT, properties.tomcat(), meterRegistry);
+        }
+        register(APPLICATION, properties.application(), meterRegistry);
+        register(ASYNC, properties.async(), meterRegistry);
+
+        log.info("가상 스레드 스케줄러 설정: {}", VirtualThreadSchedulerSettings.effective());
+        executors.values().forEach(executor -> log.info("Executor [{}] 전략: {}", executor.name(), executor.describe()));
+    }
+
+    public ExecutorService get(String name) {
+        ManagedExecutor executor = executors.get(name);
+        if (executor == null) {
+            throw new IllegalArgumentException("알 수 없는 Executor: " + name);
+        }
+        return executor.executor();
+    }
+
+    public List<Map<String, Object>> snapshot() {
+        return executors.values().stream()
+                .map(ManagedExecutor::snapshot)
+                .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executors.values().forEach(executor -> executor.executor().shutdown());
+    }
+
+    private void register(String name, ExecutorSpec spec, MeterRegistry meterRegistry) {
+        CountingThreadFactory threadFactory = new CountingThreadFactory(switch (spec.strategy()) {
+            case PLATFORM_POOL -> Thread.ofPlatform().name(name + "-", 0).daemon(true).factory();
+            case VIRTUAL_PER_TASK, BOUNDED_VIRTUAL -> Thread.ofVirtual().name(name + "-vt-", 0).factory();
+        });
+        ExecutorService executor = switch (spec.strategy()) {
+            case VIRTUAL_PER_TASK -> Executors.newThreadPerTaskExecutor(threadFactory);
+            case PLATFORM_POOL -> Executors.newFixedThreadPool(spec.poolSize(), threadFactory);
+            case BOUNDED_VIRTUAL -> new ConcurrencyLimitedExecutorService(
+                    Executors.newThreadPerTaskExecutor(threadFactory), spec.maxConcurrency());
+        };
+        ManagedExecutor managed = new ManagedExecutor(name, spec, executor, threadFactory);
+        executors.put(name, managed);
+
+        FunctionCounter.builder("executor.threads.created", threadFactory, CountingThreadFactory::created)
+                .tag("name", name)
+                .tag("strategy", spec.strategy().name())
+                .register(meterRegistry);
+        Gauge.builder("executor.threads.alive", threadFactory, CountingThreadFactory::alive)
+                .tag("name", name)
+                .tag("strategy", spec.strategy().name())
+                .register(meterRegistry);
+        if (executor instanceof ConcurrencyLimitedExecutorService limited) {
+            Gauge.builder("executor.tasks.running", limited, ConcurrencyLimitedExecutorService::running)
+                    .tag("name", name)
+                    .register(meterRegistry);
+            Gauge.builder("executor.tasks.waiting", limited, ConcurrencyLimitedExecutorService::waiting)
+                    .tag("name", name)
+                    .register(meterRegistry);
+        }
+    }
+
+    private record ManagedExecutor(String name, ExecutorSpec spec, ExecutorService executor,
+                                   CountingThreadFactory threadFactory) {
+
+        String describe() {
+            return switch (spec.strategy()) {
+                case VIRTUAL_PER_TASK -> "VIRTUAL_PER_TASK";
+                case PLATFORM_POOL -> "PLATFORM_POOL(poolSize=" + spec.poolSize() + ")";
+                case BOUNDED_VIRTUAL -> "BOUNDED_VIRTUAL(maxConcurrency=" + spec.maxConcurrency() + ")";
+            };
+        }
+
+        Map<String, Object> snapshot() {
+            Map<String, Object> snapshot = new LinkedHashMap<>();
+            snapshot.put("name", name);
+            snapshot.put("strategy", describe());
+            snapshot.put("threadsCreated", threadFactory.created());
+            snapshot.put("threadsAlive", threadFactory.alive());
+            if (executor instanceof ConcurrencyLimitedExecutorService limited) {
+                snapshot.put("tasksRunning", limited.running());
+                snapshot.put("tasksWaiting", limited.waiting());
+            }
+            return snapshot;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.virtualthread.executor;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import java.util.Map;
+
+/**
+ * application.yml의 virtual-thread.scheduler.* 값을 JDK 스케줄러 시스템 프로퍼티로 적용
+ * <p>
+ * 스케줄러는 첫 가상 스레드가 생성될 때 초기화되므로 컨텍스트 생성 전에 실행되어야 한다.
+ * JVM 옵션(-D)으로 이미 지정된 값은 덮어쓰지 않는다.
+ */
+public class VirtualThreadSchedulerEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    private static final Map<String, String> PROPERTIES = Map.of(
+            "virtual-thread.scheduler.parallelism", VirtualThreadSchedulerSettings.PARALLELISM,
+            "virtual-thread.scheduler.max-pool-size", VirtualThreadSchedulerSettings.MAX_POOL_SIZE,
+            "virtual-thread.scheduler.min-runnable", VirtualThreadSchedulerSettings.MIN_RUNNABLE,
+            "virtual-thread.scheduler.common-pool-parallelism", VirtualThreadSchedulerSettings.COMMON_POOL_PARALLELISM
+    );
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        PROPERTIES.forEach((key, systemProperty) -> {
+            String value = environment.getProperty(key);
+            if (value != null && System.getProperty(systemProperty) == null) {
+                System.setProperty(systemProperty, value);
+            }
+        });
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.virtualthread.executor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 가상 스레드 스케줄러(캐리어 풀) 시스템 프로퍼티와 실제 적용값
+ */
+public final class VirtualThreadSchedulerSettings {
+
+    public static final String PARALLELISM = "jdk.virtualThreadScheduler.parallelism";
+    public static final String MAX_POOL_SIZE = "jdk.virtualThreadScheduler.maxPoolSize";
+    public static final String MIN_RUNNABLE = "jdk.virtualThreadScheduler.minRunnable";
+    public static final String COMMON_POOL_PARALLELISM = "java.util.concurrent.ForkJoinPool.common.parallelism";
+
+    private VirtualThreadSchedulerSettings() {
+    }
+
+    /**
+     * JDK 기본값 규칙을 적용한 실제 설정값 - 명시되지 않은 값은 "(default)"로 표시
+     */
+    public static Map<String, String> effective() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        int parallelism = Integer.getInteger(PARALLELISM, processors);
+
+        Map<String, String> settings = new LinkedHashMap<>();
+        settings.put(PARALLELISM, describe(PARALLELISM, processors));
+        settings.put(MAX_POOL_SIZE, describe(MAX_POOL_SIZE, Math.max(parallelism, 256)));
+        settings.put(MIN_RUNNABLE, describe(MIN_RUNNABLE, Math.max(parallelism / 2, 1)));
+        settings.put(COMMON_POOL_PARALLELISM, describe(COMMON_POOL_PARALLELISM, Math.max(processors - 1, 1)));
+        settings.put("availableProcessors", String.valueOf(processors));
+        return settings;
+    }
+
+    private static String describe(String key, int defaultValue) {
+        String value = System.getProperty(key);
+        return value != null ? value : defaultValue + " (default)";
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.virtualthread.job;
+
+/**
+ * 벤치마크 실행 설정 - 생략하거나 범위를 벗어난 값은 기본값/상한으로 보정
+ *
+ * @param taskCount   단계별 작업 수
+ * @param delay       작업 하나의 블로킹 지연 (ms)
+ * @param concurrency 동시 단계의 최대 동시 실행 수
+ * @param label       실행 구분용 이름 (예: 배포 버전)
+ */
+public record BenchmarkConfig(int taskCount, int delay, int concurrency, String label) {
+
+    private static final int MAX_TASK_COUNT = 100_000;
+    private static final int MAX_DELAY_MILLIS = 10_000;
+
+    public BenchmarkConfig {
+        taskCount = taskCount > 0 ? Math.min(taskCount, MAX_TASK_COUNT) : 50;
+        delay = delay > 0 ? Math.min(delay, MAX_DELAY_MILLIS) : 100;
+        concurrency = concurrency > 0 ? Math.min(concurrency, taskCount) : taskCount;
+    }
+
+    public static BenchmarkConfig defaults() {
+        return new BenchmarkConfig(0, 0, 0, null);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.virtualthread.job;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실행 대기/중인 벤치마크 작업의 진행 상태
+ */
+final class BenchmarkJob {
+
+    enum State {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final String id;
+    private final BenchmarkConfig config;
+    private final int totalOperations;
+    private final Instant submittedAt = Instant.now();
+    private final AtomicInteger completedOperations = new AtomicInteger();
+
+    private volatile State state = State.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile BenchmarkRun run;
+    private volatile String error;
+
+    BenchmarkJob(String id, BenchmarkConfig config, int totalOperations) {
+        this.id = id;
+        this.config = config;
+        this.totalOperations = totalOperations;
+    }
+
+    String id() {
+        return id;
+    }
+
+    BenchmarkConfig config() {
+        return config;
+    }
+
+    boolean isFinished() {
+        return state == State.COMPLETED || state == State.FAILED;
+    }
+
+    void start() {
+        startedAt = Instant.now();
+        state = State.RUNNING;
+    }
+
+    void progress() {
+        completedOperations.incrementAndGet();
+    }
+
+    void complete(BenchmarkRun result) {
+        run = result;
+        finishedAt = Instant.now();
+        state = State.COMPLETED;
+    }
+
+    void fail(Throwable cause) {
+        error = cause.toString();
+        finishedAt = Instant.now();
+        state = State.FAILED;
+    }
+
+    BenchmarkJobStatus status() {
+        return new BenchmarkJobStatus(id, state.name(), completedOperations.get(), totalOperations,
+                submittedAt, startedAt, finishedAt, config, run, error);
+    }
+}
@@ -0,0 +1,228 @@
+package com.example.virtualthread.job;
+
+import com.example.virtualthread.backend.StageBackend;
+import com.example.virtualthread.config.BenchmarkJobProperties;
+import com.example.virtualthread.config.ExecutorProperties;
+import com.example.virtualthread.context.RequestContext;
+import com.example.virtualthread.context.RequestContexts;
+import com.example.virtualthread.executor.VirtualThreadSchedulerSettings;
+import com.example.virtualthread.service.TaskService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 벤치마크를 백그라운드 작업으로 실행하고 결과를 저장/비교
+ * <p>
+ * 벤치마크끼리 간섭하지 않도록 작업은 하나씩 순서대로 실행된다(나머지는 QUEUED).
+ * 각 작업은 순차 단계(sequential)와 동시 단계(concurrent)로 구성되며, 작업마다 지연을 측정해
+ * 처리량과 백분위를 계산한다.
+ */
+@Slf4j
+@Service
+@Profile("!reactive")
+public class BenchmarkJobService {
+
+    private static final String ENDPOINT = "benchmark-job";
+    private static final int TASK_ID_OFFSET = 1000;
+
+    private final TaskService taskService;
+    private final BenchmarkRunStore store;
+    private final BenchmarkJobProperties properties;
+    private final ExecutorProperties executorProperties;
+    private final StageBackend stageBackend;
+
+    private final Map<String, BenchmarkJob> jobs = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<String> jobOrder = new ConcurrentLinkedQueue<>();
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("benchmark-job-", 1).factory());
+
+    public BenchmarkJobService(TaskService taskService, BenchmarkRunStore store, BenchmarkJobProperties properties,
+                               ExecutorProperties executorProperties, StageBackend stageBackend) {
+        this.taskService = taskService;
+        this.store = store;
+        this.properties = properties;
+        this.executorProperties = executorProperties;
+        this.stageBackend = stageBackend;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    public BenchmarkJobStatus submit(BenchmarkConfig config) {
+        BenchmarkJob job = new BenchmarkJob(UUID.randomUUID().toString(), config, config.taskCount() * 2);
+        jobs.put(job.id(), job);
+        jobOrder.add(job.id());
+        evictFinishedJobs();
+
+        log.info("벤치마크 작업 등록 {} - {}", job.id(), config);
+        worker.execute(() -> run(job));
+        return job.status();
+    }
+
+    public Optional<BenchmarkJobStatus> status(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(BenchmarkJob::status);
+    }
+
+    public List<BenchmarkRun> recentRuns(int limit) {
+        return store.recent(limit);
+    }
+
+    /**
+     * 기준 실행 대비 후보 실행의 지표 변화 - 처리량은 감소, 지연은 증가가 회귀
+     */
+    public Optional<RunComparison> compare(String baselineId, String candidateId, Double thresholdPercent) {
+        Optional<BenchmarkRun> baseline = store.find(baselineId);
+        Optional<BenchmarkRun> candidate = store.find(candidateId);
+        if (baseline.isEmpty() || candidate.isEmpty()) {
+            return Optional.empty();
+        }
+
+        double threshold = thresholdPercent != null ? thresholdPercent : properties.regressionThresholdPercent();
+        List<RunComparison.MetricDiff> diffs = new ArrayList<>();
+        baseline.get().phases().forEach((phase, base) -> {
+            PhaseResult next = candidate.get().phases().get(phase);
+            if (next == null) {
+                return;
+            }
+            diffs.add(diff(phase + ".throughputPerSecond", base.throughputPerSecond(), next.throughputPerSecond(), true, threshold));
+            diffs.add(diff(phase + ".p50Millis", base.p50Millis(), next.p50Millis(), false, threshold));
+            diffs.add(diff(phase + ".p99Millis", base.p99Millis(), next.p99Millis(), false, threshold));
+        });
+
+        boolean regression = diffs.stream().anyMatch(RunComparison.MetricDiff::regression);
+        return Optional.of(new RunComparison(baselineId, candidateId, threshold, regression, diffs));
+    }
+
+    private void run(BenchmarkJob job) {
+        job.start();
+        BenchmarkConfig config = job.config();
+        RequestContext context = new RequestContext(job.id(), ENDPOINT, RequestContext.NO_TASK, null);
+        log.info("벤치마크 작업 시작 {}", job.id());
+
+        try {
+            Instant startedAt = Instant.now();
+            Map<String, PhaseResult> phases = RequestContexts.callWith(context, () -> {
+                Map<String, PhaseResult> results = new LinkedHashMap<>();
+                results.put("sequential", runSequential(job, config));
+                results.put("concurrent", runConcurrent(job, config));
+                return results;
+            });
+
+            BenchmarkRun run = new BenchmarkRun(job.id(), config.label(), config, startedAt, Instant.now(),
+                    phases, environment());
+            store.append(run);
+            job.complete(run);
+            log.info("벤치마크 작업 완료 {} - {}", job.id(), phases);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail(e);
+        } catch (RuntimeException e) {
+            log.warn("벤치마크 작업 실패 {}", job.id(), e);
+            job.fail(e);
+        }
+    }
+
+    private PhaseResult runSequential(BenchmarkJob job, BenchmarkConfig config) {
+        long[] latencies = new long[config.taskCount()];
+        long phaseStart = System.nanoTime();
+        for (int i = 0; i < config.taskCount(); i++) {
+            long start = System.nanoTime();
+            taskService.processSyncTask(TASK_ID_OFFSET + i, config.delay());
+            latencies[i] = System.nanoTime() - start;
+            job.progress();
+        }
+        return PhaseResult.of(latencies, System.nanoTime() - phaseStart);
+    }
+
+    private PhaseResult runConcurrent(BenchmarkJob job, BenchmarkConfig config) throws InterruptedException {
+        long[] latencies = new long[config.taskCount()];
+        Semaphore inFlight = new Semaphore(config.concurrency());
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        long phaseStart = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < config.taskCount(); i++) {
+                int index = i;
+                inFlight.acquire();
+                executor.execute(RequestContexts.wrap(() -> {
+                    try {
+                        long start = System.nanoTime();
+                        taskService.processSyncTask(TASK_ID_OFFSET + index, config.delay());
+                        latencies[index] = System.nanoTime() - start;
+                        job.progress();
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+        }
+        long elapsedNanos = System.nanoTime() - phaseStart;
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        return PhaseResult.of(latencies, elapsedNanos);
+    }
+
+    private Map<String, Object> environment() {
+        Map<String, Object> environment = new LinkedHashMap<>();
+        environment.put("javaVersion", Runtime.version().toString());
+        environment.put("javaVendor", System.getProperty("java.vendor"));
+        environment.put("scheduler", VirtualThreadSchedulerSettings.effective());
+        environment.put("executors", Map.of(
+                "tomcat", executorProperties.tomcat().strategy(),
+                "application", executorProperties.application().strategy(),
+                "async", executorProperties.async().strategy()));
+        environment.put("backend", stageBackend.mode());
+        return environment;
+    }
+
+    private void evictFinishedJobs() {
+        int excess = jobs.size() - properties.maxRetainedJobs();
+        for (String id : jobOrder) {
+            if (excess <= 0) {
+                break;
+            }
+            BenchmarkJob job = jobs.get(id);
+            if (job == null || job.isFinished()) {
+                jobs.remove(id);
+                jobOrder.remove(id);
+                excess--;
+            }
+        }
+    }
+
+    /**
+     * 기준 값이 0이면 변화율을 정의할 수 없으므로 값이 달라졌는지만 보고, 나빠지는 방향이면 회귀로 본다
+     */
+    private static RunComparison.MetricDiff diff(String metric, double baseline, double candidate,
+                                                 boolean higherIsBetter, double threshold) {
+        if (baseline == 0) {
+            boolean regression = higherIsBetter ? candidate < 0 : candidate > 0;
+            return new RunComparison.MetricDiff(metric, baseline, candidate, candidate == 0 ? 0.0 : null, regression);
+        }
+        double change = (candidate - baseline) / baseline * 100;
+        boolean regression = higherIsBetter ? change < -threshold : change > threshold;
+        return new RunComparison.MetricDiff(metric, baseline, candidate, change, regression);
+    }
+}
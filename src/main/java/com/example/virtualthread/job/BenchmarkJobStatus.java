@@ -0,0 +1,28 @@
+package com.example.virtualthread.job;
+
+import java.time.Instant;
+
+/**
+ * 벤치마크 작업 상태 응답
+ *
+ * @param state     QUEUED, RUNNING, COMPLETED, FAILED
+ * @param completed 완료된 작업 수
+ * @param total     전체 작업 수 (모든 단계 합계)
+ * @param run       완료된 경우 실행 결과
+ */
+public record BenchmarkJobStatus(
+        String jobId,
+        String state,
+        int completed,
+        int total,
+        Instant submittedAt,
+        Instant startedAt,
+        Instant finishedAt,
+        BenchmarkConfig config,
+        BenchmarkRun run,
+        String error) {
+
+    public boolean finished() {
+        return "COMPLETED".equals(state) || "FAILED".equals(state);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.virtualthread.job;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 영구 저장되는 벤치마크 실행 결과
+ *
+ * @param phases      단계 이름(sequential, concurrent)별 결과
+ * @param environment JDK, carrier 설정, Executor 전략, 백엔드 모드
+ */
+public record BenchmarkRun(
+        String id,
+        String label,
+        BenchmarkConfig config,
+        Instant startedAt,
+        Instant finishedAt,
+        Map<String, PhaseResult> phases,
+        Map<String, Object> environment) {
+}
@@ -0,0 +1,111 @@
+package com.example.virtualthread.job;
+
+import com.example.virtualthread.config.BenchmarkJobProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 벤치마크 실행 결과의 추가 전용(JSONL) 파일 저장소
+ * <p>
+ * 실행 하나가 한 줄이며 기존 줄은 수정하지 않는다. 시작 시 파일 전체를 읽어 메모리 색인을 만들고,
+ * 손상된 줄은 건너뛴다.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class BenchmarkRunStore {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, BenchmarkRun> runs = new LinkedHashMap<>();
+
+    public BenchmarkRunStore(BenchmarkJobProperties properties, ObjectMapper objectMapper) {
+        this.path = properties.storePath().toAbsolutePath();
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void load() throws IOException {
+        if (!Files.exists(path)) {
+            log.info("벤치마크 결과 저장소 생성 예정 - {}", path);
+            return;
+        }
+
+        int skipped = 0;
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                BenchmarkRun run = objectMapper.readValue(line, BenchmarkRun.class);
+                runs.put(run.id(), run);
+            } catch (JsonProcessingException e) {
+                skipped++;
+            }
+        }
+        log.info("벤치마크 결과 {}건 로드 - {} (손상된 줄 {}건 건너뜀)", runs.size(), path, skipped);
+    }
+
+    public void append(BenchmarkRun run) {
+        lock.lock();
+        try {
+            Path parent = path.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                writer.write(objectMapper.writeValueAsString(run));
+                writer.newLine();
+            }
+            runs.put(run.id(), run);
+        } catch (IOException e) {
+            throw new UncheckedIOException("벤치마크 결과 저장 실패: " + path, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Optional<BenchmarkRun> find(String id) {
+        lock.lock();
+        try {
+            return Optional.ofNullable(runs.get(id));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 최근 실행부터 limit건
+     */
+    public List<BenchmarkRun> recent(int limit) {
+        lock.lock();
+        try {
+            List<BenchmarkRun> all = new ArrayList<>(runs.values());
+            Collections.reverse(all);
+            return List.copyOf(all.subList(0, Math.min(limit, all.size())));
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.virtualthread.job;
+
+import java.util.Arrays;
+
+/**
+ * 벤치마크 단계 하나의 처리량과 지연 분포
+ */
+public record PhaseResult(
+        int operations,
+        long elapsedMillis,
+        double throughputPerSecond,
+        double p50Millis,
+        double p90Millis,
+        double p99Millis,
+        double maxMillis) {
+
+    static PhaseResult of(long[] latencyNanos, long elapsedNanos) {
+        long[] sorted = latencyNanos.clone();
+        Arrays.sort(sorted);
+        double seconds = Math.max(elapsedNanos, 1) / 1_000_000_000.0;
+        return new PhaseResult(
+                sorted.length,
+                elapsedNanos / 1_000_000,
+                sorted.length / seconds,
+                percentile(sorted, 0.50),
+                percentile(sorted, 0.90),
+                percentile(sorted, 0.99),
+                sorted.length > 0 ? sorted[sorted.length - 1] / 1_000_000.0 : 0);
+    }
+
+    /**
+     * nearest-rank 백분위
+     */
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(rank - 1, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.virtualthread.job;
+
+import java.util.List;
+
+/**
+ * 두 실행 결과 비교
+ *
+ * @param regression 하나 이상의 지표가 임계값을 넘어 나빠졌는지 여부
+ */
+public record RunComparison(
+        String baselineId,
+        String candidateId,
+        double thresholdPercent,
+        boolean regression,
+        List<MetricDiff> metrics) {
+
+    /**
+     * @param changePercent 기준 대비 변화율 (양수 = 값 증가), 기준이 0이고 값이 달라졌으면 null
+     * @param regression    나빠지는 방향으로 임계값을 넘었는지 여부
+     */
+    public record MetricDiff(
+            String metric,
+            double baseline,
+            double candidate,
+            Double changePercent,
+            boolean regression) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.virtualthread.metrics;
+
+import com.example.virtualthread.context.RequestContext;
+import com.example.virtualthread.context.RequestContexts;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * @Async Executor에 제출된 작업의 대기 시간과 실행 시간을 분리하여 기록하고,
+ * 제출 시점의 요청 컨텍스트를 실행 스레드로 옮긴다
+ */
+public class TaskExecutionMetricsDecorator implements TaskDecorator {
+
+    private final String executorName;
+    private final TaskMetrics taskMetrics;
+
+    public TaskExecutionMetricsDecorator(String executorName, TaskMetrics taskMetrics) {
+        this.executorName = executorName;
+        this.taskMetrics = taskMetrics;
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        // 제출 시점(호출 스레드)에 캡처
+        RequestContext context = RequestContexts.current();
+        String endpoint = context.endpoint();
+        long submittedNanos = System.nanoTime();
+
+        return () -> {
+            long startNanos = System.nanoTime();
+            taskMetrics.recordQueueWait(executorName, endpoint, startNanos - submittedNanos);
+
+            String outcome = "success";
+            try {
+                RequestContexts.runWith(context, runnable);
+            } catch (RuntimeException | Error e) {
+                outcome = "failure";
+                throw e;
+            } finally {
+                taskMetrics.recordAsyncExecution(executorName, endpoint, outcome, System.nanoTime() - startNanos);
+            }
+        };
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.virtualthread.metrics;
+
+import com.example.virtualthread.context.RequestContexts;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 작업 실행 경로별 Micrometer 메트릭
+ * <p>
+ * 모든 타이머는 백분위 히스토그램과 SLO 버킷을 발행하므로 /actuator/prometheus에서
+ * histogram_quantile로 p99/p999를 계산할 수 있다. endpoint 태그는 요청 컨텍스트
+ * ({@link RequestContexts})에서 읽으므로 자식 가상 스레드와 구조적 서브태스크에도 그대로 적용된다.
+ * <p>
+ * 타이머는 작업마다 호출되므로 (이름, 태그, endpoint, outcome)별로 한 번만 만들어 재사용한다.
+ */
+@Component
+public class TaskMetrics {
+
+    private static final Duration[] SLO_BUCKETS = {
+            Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250),
+            Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofSeconds(2), Duration.ofSeconds(5)
+    };
+
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public TaskMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 개별 작업 실행 시간 (path: sync, async, parallel, direct, complex, structured)
+     */
+    public <T, E extends Exception> T recordExecution(String path, TimedCall<T, E> call) throws E {
+        return record("tasks.execution", "path", path, call);
+    }
+
+    /**
+     * 팬아웃 배치 전체 실행 시간 (path: parallel, direct)
+     */
+    public <T, E extends Exception> T recordBatch(String path, TimedCall<T, E> call) throws E {
+        return record("tasks.batch", "path", path, call);
+    }
+
+    /**
+     * 복잡한 작업의 하위 단계 실행 시간 (stage: db, api, file)
+     */
+    public <T, E extends Exception> T recordStage(String stage, TimedCall<T, E> call) throws E {
+        return record("tasks.stage", "stage", stage, call);
+    }
+
+    /**
+     * @Async 작업이 Executor에 제출된 뒤 실행되기까지의 대기 시간
+     */
+    public void recordQueueWait(String executor, String endpoint, long nanos) {
+        timer("tasks.async.queue.wait", "executor", executor, endpoint, "success")
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @Async 작업이 Executor 스레드에서 실행된 시간
+     */
+    public void recordAsyncExecution(String executor, String endpoint, String outcome, long nanos) {
+        timer("tasks.async.execution", "executor", executor, endpoint, outcome)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public static String currentEndpoint() {
+        return RequestContexts.current().endpoint();
+    }
+
+    private <T, E extends Exception> T record(String name, String tagKey, String tagValue,
+                                              TimedCall<T, E> call) throws E {
+        String endpoint = currentEndpoint();
+        String outcome = "success";
+        long startNanos = System.nanoTime();
+        try {
+            return call.call();
+        } catch (Exception e) {
+            // E는 타입 변수라 InterruptedException을 따로 catch할 수 없으므로 한 번에 받아 분기
+            boolean interrupted = e instanceof InterruptedException;
+            outcome = interrupted ? "interrupted" : "failure";
+            counter(interrupted ? "tasks.interruptions" : "tasks.failures", tagKey, tagValue, endpoint, e).increment();
+            throw e;
+        } finally {
+            timer(name, tagKey, tagValue, endpoint, outcome)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(String name, String tagKey, String tagValue, String endpoint, String outcome) {
+        return timers.computeIfAbsent(new TimerKey(name, tagKey, tagValue, endpoint, outcome), key ->
+                Timer.builder(key.name())
+                        .tag(key.tagKey(), key.tagValue())
+                        .tag("endpoint", key.endpoint())
+                        .tag("outcome", key.outcome())
+                        .publishPercentileHistogram()
+                        .serviceLevelObjectives(SLO_BUCKETS)
+                        .minimumExpectedValue(Duration.ofMillis(1))
+                        .maximumExpectedValue(Duration.ofSeconds(30))
+                        .register(registry));
+    }
+
+    private Counter counter(String name, String tagKey, String tagValue, String endpoint, Exception e) {
+        return Counter.builder(name)
+                .tag(tagKey, tagValue)
+                .tag("endpoint", endpoint)
+                .tag("exception", e.getClass().getSimpleName())
+                .register(registry);
+    }
+
+    private record TimerKey(String name, String tagKey, String tagValue, String endpoint, String outcome) {
+    }
+
+    @FunctionalInterface
+    public interface TimedCall<T, E extends Exception> {
+        T call() throws E;
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.virtualthread.monitor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 가상 스레드 스케줄러의 carrier 스레드 수 추적
+ * <p>
+ * 블로킹 파일 I/O 등으로 carrier가 묶이면 스케줄러가 carrier를 추가로 만들어 보상한다.
+ * 이 보상은 순간적으로 일어나므로 측정 구간({@link #startSampling()}) 동안에만 100ms마다 표본을 떠서 최고치를 기록한다.
+ * 늘어난 carrier는 유휴 30초 뒤에야 줄어들기 때문에, 전략 비교는 충분한 간격을 두고 해야 한다.
+ * <p>
+ * 스레드 수는 스택을 캡처하지 않도록 {@code Thread.getAllStackTraces()} 대신 루트 스레드 그룹을 열거해서 센다.
+ */
+@Component
+@Profile("!reactive")
+public class CarrierThreadMonitor {
+
+    private static final String CARRIER_THREAD_CLASS = "jdk.internal.misc.CarrierThread";
+    private static final long SAMPLE_INTERVAL_MILLIS = 100;
+    private static final ThreadGroup ROOT_GROUP = rootGroup();
+
+    private final AtomicInteger peak = new AtomicInteger();
+    private final Set<Sampling> samplings = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(runnable ->
+            Thread.ofPlatform().daemon().name("carrier-sampler").unstarted(runnable));
+    private ScheduledFuture<?> sampleTask;
+
+    public CarrierThreadMonitor(MeterRegistry meterRegistry) {
+        Gauge.builder("virtual.threads.carriers", this, CarrierThreadMonitor::current)
+                .description("현재 살아 있는 carrier 스레드 수")
+                .register(meterRegistry);
+        Gauge.builder("virtual.threads.carriers.peak", peak, AtomicInteger::get)
+                .description("마지막 측정 구간에서 관측된 최대 carrier 스레드 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        sampler.shutdownNow();
+    }
+
+    /**
+     * 현재 carrier 스레드 수 (가상 스레드는 스레드 그룹 열거에 포함되지 않으므로 플랫폼 스레드만 순회)
+     */
+    public int current() {
+        Thread[] threads = new Thread[ROOT_GROUP.activeCount() + 16];
+        int count;
+        while ((count = ROOT_GROUP.enumerate(threads)) == threads.length) {
+            threads = new Thread[threads.length * 2];
+        }
+        return (int) Arrays.stream(threads, 0, count)
+                .filter(thread -> thread.getClass().getName().equals(CARRIER_THREAD_CLASS))
+                .count();
+    }
+
+    /**
+     * 측정 구간 시작 - 닫을 때까지 표본을 떠서 구간 최고치를 기록하고, 마지막 구간이 닫히면 표본 수집을 멈춘다
+     */
+    public Sampling startSampling() {
+        Sampling sampling = new Sampling(current());
+        lock.lock();
+        try {
+            if (samplings.isEmpty()) {
+                peak.set(sampling.before);
+                sampleTask = sampler.scheduleAtFixedRate(this::sample,
+                        SAMPLE_INTERVAL_MILLIS, SAMPLE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            }
+            samplings.add(sampling);
+        } finally {
+            lock.unlock();
+        }
+        return sampling;
+    }
+
+    private void stopSampling(Sampling sampling) {
+        lock.lock();
+        try {
+            if (samplings.remove(sampling) && samplings.isEmpty()) {
+                sampleTask.cancel(false);
+                sampleTask = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void sample() {
+        int current = current();
+        peak.accumulateAndGet(current, Math::max);
+        for (Sampling sampling : samplings) {
+            sampling.peak.accumulateAndGet(current, Math::max);
+        }
+    }
+
+    private static ThreadGroup rootGroup() {
+        ThreadGroup group = Thread.currentThread().getThreadGroup();
+        while (group.getParent() != null) {
+            group = group.getParent();
+        }
+        return group;
+    }
+
+    /**
+     * 하나의 측정 구간 - 시작 시점의 carrier 수와 구간 최고치
+     */
+    public final class Sampling implements AutoCloseable {
+
+        private final int before;
+        private final AtomicInteger peak;
+
+        private Sampling(int before) {
+            this.before = before;
+            this.peak = new AtomicInteger(before);
+        }
+
+        public int before() {
+            return before;
+        }
+
+        /**
+         * 구간 최고치 (마지막 표본 이후의 증가를 놓치지 않도록 현재 값도 함께 반영)
+         */
+        public int peak() {
+            return peak.accumulateAndGet(current(), Math::max);
+        }
+
+        @Override
+        public void close() {
+            stopSampling(this);
+        }
+    }
+}
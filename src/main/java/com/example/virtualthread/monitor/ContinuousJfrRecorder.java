@@ -0,0 +1,208 @@
+package com.example.virtualthread.monitor;
+
+import com.example.virtualthread.config.JfrRecorderProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 앱이 관리하는 상시 JFR 기록 - 디스크 링 버퍼(maxAge, maxSize)에 계속 기록하다가 요청 시 파일로 덤프
+ * <p>
+ * 기본 설정(default.jfc) 위에 가상 스레드 시작/종료/pinning, 할당 샘플, 소켓 이벤트를 켜고
+ * virtual-thread.jfr.settings로 이벤트별 설정을 덮어쓴다. 덤프는 maxDumps개까지만 보관한다.
+ */
+@Slf4j
+@Component
+public class ContinuousJfrRecorder {
+
+    static final Map<String, String> DEFAULT_SETTINGS = Map.ofEntries(
+            Map.entry("jdk.VirtualThreadStart#enabled", "true"),
+            Map.entry("jdk.VirtualThreadEnd#enabled", "true"),
+            Map.entry("jdk.VirtualThreadPinned#enabled", "true"),
+            Map.entry("jdk.VirtualThreadPinned#threshold", "20 ms"),
+            Map.entry("jdk.VirtualThreadPinned#stackTrace", "true"),
+            Map.entry("jdk.VirtualThreadSubmitFailed#enabled", "true"),
+            Map.entry("jdk.ObjectAllocationSample#enabled", "true"),
+            Map.entry("jdk.ObjectAllocationSample#throttle", "150/s"),
+            Map.entry("jdk.SocketRead#enabled", "true"),
+            Map.entry("jdk.SocketRead#threshold", "20 ms"),
+            Map.entry("jdk.SocketWrite#enabled", "true"),
+            Map.entry("jdk.SocketWrite#threshold", "20 ms"));
+
+    private static final String RECORDING_NAME = "continuous";
+    private static final Pattern DUMP_NAME = Pattern.compile("jfr-[0-9-]+-[a-z-]+\\.jfr");
+    private static final DateTimeFormatter FILE_TIME =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneId.systemDefault());
+
+    private final JfrRecorderProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Path dumpDirectory;
+    private final ReentrantLock dumpLock = new ReentrantLock();
+
+    private Recording recording;
+
+    public ContinuousJfrRecorder(JfrRecorderProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.dumpDirectory = Path.of(properties.dumpDirectory()).toAbsolutePath().normalize();
+    }
+
+    @PostConstruct
+    public void start() throws IOException, ParseException {
+        if (!properties.enabled()) {
+            log.info("상시 JFR 기록 비활성화");
+            return;
+        }
+
+        Map<String, String> settings = new HashMap<>(
+                Configuration.getConfiguration(properties.configuration()).getSettings());
+        settings.putAll(DEFAULT_SETTINGS);
+        settings.putAll(properties.settings());
+
+        Files.createDirectories(dumpDirectory);
+        recording = new Recording(settings);
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(properties.maxAge());
+        recording.setMaxSize(properties.maxSize().toBytes());
+        recording.start();
+
+        log.info("상시 JFR 기록 시작 - 설정: {}, 보관: {} / {}MB, 덤프 경로: {}",
+                properties.configuration(), properties.maxAge(), properties.maxSize().toMegabytes(), dumpDirectory);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    public boolean isRecording() {
+        return recording != null;
+    }
+
+    /**
+     * 링 버퍼 내용을 파일로 덤프 - 기록 중이 아니거나 다른 덤프가 진행 중이면 empty
+     *
+     * @param reason 덤프 사유 (manual, slo-breach) - 파일 이름과 메트릭 태그에 사용
+     */
+    public Optional<DumpFile> dump(String reason) {
+        if (recording == null) {
+            return Optional.empty();
+        }
+        if (!dumpLock.tryLock()) {
+            log.info("다른 JFR 덤프가 진행 중이라 건너뜀 - 사유: {}", reason);
+            return Optional.empty();
+        }
+        try {
+            Path file = dumpDirectory.resolve("jfr-" + FILE_TIME.format(Instant.now()) + "-" + reason + ".jfr");
+            recording.dump(file);
+            Counter.builder("jfr.dumps")
+                    .description("JFR 덤프 횟수")
+                    .tag("reason", reason)
+                    .register(meterRegistry)
+                    .increment();
+            pruneOldDumps();
+
+            DumpFile dumped = DumpFile.of(file);
+            log.info("JFR 덤프 생성 - {} ({}KB, 사유: {})", dumped.name(), dumped.sizeBytes() / 1024, reason);
+            return Optional.of(dumped);
+        } catch (IOException e) {
+            log.warn("JFR 덤프 실패 - 사유: {}", reason, e);
+            return Optional.empty();
+        } finally {
+            dumpLock.unlock();
+        }
+    }
+
+    /**
+     * 보관 중인 덤프 - 최신 순
+     */
+    public List<DumpFile> dumps() {
+        if (!Files.isDirectory(dumpDirectory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dumpDirectory)) {
+            return files.filter(file -> DUMP_NAME.matcher(file.getFileName().toString()).matches())
+                    .map(DumpFile::of)
+                    .sorted(Comparator.comparing(DumpFile::created).reversed())
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 덤프 이름을 파일 경로로 변환 - 덤프 디렉터리 밖이나 규칙에 맞지 않는 이름은 empty
+     */
+    public Optional<Path> resolveDump(String name) {
+        if (name == null || !DUMP_NAME.matcher(name).matches()) {
+            return Optional.empty();
+        }
+        Path file = dumpDirectory.resolve(name).normalize();
+        return file.getParent().equals(dumpDirectory) && Files.isRegularFile(file)
+                ? Optional.of(file)
+                : Optional.empty();
+    }
+
+    public Map<String, Object> recordingInfo() {
+        if (recording == null) {
+            return Map.of("enabled", false);
+        }
+        return Map.of(
+                "enabled", true,
+                "state", recording.getState().name(),
+                "configuration", properties.configuration(),
+                "maxAge", properties.maxAge().toString(),
+                "maxSizeBytes", properties.maxSize().toBytes(),
+                "dumpDirectory", dumpDirectory.toString()
+        );
+    }
+
+    private void pruneOldDumps() throws IOException {
+        List<DumpFile> all = dumps();
+        for (DumpFile old : all.subList(Math.min(properties.maxDumps(), all.size()), all.size())) {
+            Files.deleteIfExists(dumpDirectory.resolve(old.name()));
+        }
+    }
+
+    /**
+     * @param name      파일 이름 (다운로드 경로 /actuator/jfr/{name})
+     * @param sizeBytes 파일 크기
+     * @param created   생성 시각
+     */
+    public record DumpFile(String name, long sizeBytes, Instant created) {
+
+        static DumpFile of(Path file) {
+            try {
+                return new DumpFile(file.getFileName().toString(), Files.size(file),
+                        Files.getLastModifiedTime(file).toInstant());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
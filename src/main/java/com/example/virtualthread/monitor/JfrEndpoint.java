@@ -0,0 +1,52 @@
+package com.example.virtualthread.monitor;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 상시 JFR 기록 조회 및 덤프 다운로드
+ * <p>
+ * GET /actuator/jfr - 기록 상태와 덤프 목록, GET /actuator/jfr/{name} - 덤프 다운로드,
+ * POST /actuator/jfr - 수동 덤프
+ */
+@Component
+@WebEndpoint(id = "jfr")
+@RequiredArgsConstructor
+public class JfrEndpoint {
+
+    private final ContinuousJfrRecorder recorder;
+
+    @ReadOperation
+    public Map<String, Object> recordings() {
+        return Map.of(
+                "recording", recorder.recordingInfo(),
+                "dumps", recorder.dumps()
+        );
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> download(@Selector String name) {
+        return recorder.resolveDump(name)
+                .map(file -> new WebEndpointResponse<Resource>(new FileSystemResource(file), WebEndpointResponse.STATUS_OK))
+                .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND));
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<ContinuousJfrRecorder.DumpFile> dump() {
+        if (!recorder.isRecording()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        }
+        return recorder.dump("manual")
+                .map(file -> new WebEndpointResponse<>(file, WebEndpointResponse.STATUS_OK))
+                .orElseGet(() -> new WebEndpointResponse<>(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS));
+    }
+}
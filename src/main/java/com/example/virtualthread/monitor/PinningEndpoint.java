@@ -0,0 +1,32 @@
+package com.example.virtualthread.monitor;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 가상 스레드 pinning 상위 호출 지점 조회 - GET /actuator/pinning?limit=10
+ */
+@Component
+@Endpoint(id = "pinning")
+@RequiredArgsConstructor
+public class PinningEndpoint {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final VirtualThreadPinningMonitor monitor;
+
+    @ReadOperation
+    public Map<String, Object> pinning(@Nullable Integer limit) {
+        return Map.of(
+                "pinnedEvents", monitor.pinnedCount(),
+                "submitFailedEvents", monitor.submitFailedCount(),
+                "untrackedSiteEvents", monitor.untrackedSiteCount(),
+                "topOffenders", monitor.topOffenders(limit != null ? limit : DEFAULT_LIMIT)
+        );
+    }
+}
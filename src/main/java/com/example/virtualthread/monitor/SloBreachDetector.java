@@ -0,0 +1,159 @@
+package com.example.virtualthread.monitor;
+
+import com.example.virtualthread.config.JfrRecorderProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * http.server.requests 관측으로 엔드포인트별 지연 SLO를 슬라이딩 윈도에서 판정하고, 위반 시 JFR 덤프
+ * <p>
+ * 서블릿(MVC)과 reactive(WebFlux) 요청 관측을 모두 처리한다. 윈도는 1초 버킷의 링이며,
+ * 목표를 넘은 요청이 들어올 때만 윈도 합계를 계산하므로 정상 요청의 비용은 버킷 카운터 증가뿐이다.
+ */
+@Slf4j
+@Component
+public class SloBreachDetector implements ObservationHandler<Observation.Context> {
+
+    private static final String START_NANOS = SloBreachDetector.class.getName() + ".startNanos";
+
+    private final JfrRecorderProperties.Slo slo;
+    private final ContinuousJfrRecorder recorder;
+    private final Map<String, SlidingWindow> windows = new HashMap<>();
+    private final Map<String, Counter> breaches = new HashMap<>();
+    private final AtomicLong nextDumpNanos = new AtomicLong(System.nanoTime());
+
+    public SloBreachDetector(JfrRecorderProperties properties, ContinuousJfrRecorder recorder,
+                             MeterRegistry meterRegistry) {
+        this.slo = properties.slo();
+        this.recorder = recorder;
+        int buckets = (int) slo.window().toSeconds();
+        slo.endpoints().forEach((endpoint, target) -> {
+            windows.put(endpoint, new SlidingWindow(target, buckets));
+            breaches.put(endpoint, Counter.builder("jfr.slo.breaches")
+                    .description("지연 SLO 위반으로 JFR 덤프를 생성한 횟수")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry));
+        });
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return slo.enabled()
+                && (context instanceof ServerRequestObservationContext
+                || context instanceof org.springframework.http.server.reactive.observation.ServerRequestObservationContext);
+    }
+
+    @Override
+    public void onStart(Observation.Context context) {
+        context.put(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void onStop(Observation.Context context) {
+        Long startNanos = context.get(START_NANOS);
+        SlidingWindow window = windows.get(pathPattern(context));
+        if (startNanos == null || window == null) {
+            return;
+        }
+
+        long nowNanos = System.nanoTime();
+        boolean slow = nowNanos - startNanos > window.targetNanos;
+        WindowStats stats = window.record(slow, nowNanos);
+        if (stats != null && stats.total() >= slo.minRequests()
+                && (double) stats.slow() / stats.total() > slo.maxSlowRatio()) {
+            onBreach(pathPattern(context), stats, nowNanos);
+        }
+    }
+
+    private void onBreach(String endpoint, WindowStats stats, long nowNanos) {
+        long allowedNanos = nextDumpNanos.get();
+        if (nowNanos < allowedNanos
+                || !nextDumpNanos.compareAndSet(allowedNanos, nowNanos + slo.cooldown().toNanos())) {
+            return;
+        }
+
+        breaches.get(endpoint).increment();
+        log.warn("지연 SLO 위반 - {} 최근 {}초 {}건 중 {}건이 {}ms 초과, JFR 덤프 생성",
+                endpoint, slo.window().toSeconds(), stats.total(), stats.slow(),
+                windows.get(endpoint).targetNanos / 1_000_000);
+        // 덤프는 파일 쓰기를 포함하므로 요청 스레드 밖에서 실행
+        Thread.ofVirtual().name("jfr-slo-dump").start(() -> recorder.dump("slo-breach"));
+    }
+
+    private static String pathPattern(Observation.Context context) {
+        if (context instanceof ServerRequestObservationContext servlet) {
+            return servlet.getPathPattern();
+        }
+        if (context instanceof org.springframework.http.server.reactive.observation.ServerRequestObservationContext reactive) {
+            return reactive.getPathPattern();
+        }
+        return null;
+    }
+
+    private record WindowStats(long total, long slow) {
+    }
+
+    /**
+     * 1초 버킷 링 - 버킷에 기록된 초가 현재와 다르면 재사용 전에 초기화
+     */
+    private static final class SlidingWindow {
+
+        private final long targetNanos;
+        private final long[] seconds;
+        private final long[] totals;
+        private final long[] slows;
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private SlidingWindow(Duration target, int buckets) {
+            this.targetNanos = target.toNanos();
+            this.seconds = new long[buckets];
+            this.totals = new long[buckets];
+            this.slows = new long[buckets];
+        }
+
+        /**
+         * 요청 하나 기록 - 느린 요청이면 윈도 합계를, 아니면 null 반환
+         */
+        WindowStats record(boolean slow, long nowNanos) {
+            long second = nowNanos / 1_000_000_000L;
+            int index = (int) Math.floorMod(second, (long) seconds.length);
+
+            lock.lock();
+            try {
+                if (seconds[index] != second) {
+                    seconds[index] = second;
+                    totals[index] = 0;
+                    slows[index] = 0;
+                }
+                totals[index]++;
+                if (!slow) {
+                    return null;
+                }
+                slows[index]++;
+
+                long total = 0;
+                long slowTotal = 0;
+                for (int i = 0; i < seconds.length; i++) {
+                    if (second - seconds[i] < seconds.length) {
+                        total += totals[i];
+                        slowTotal += slows[i];
+                    }
+                }
+                return new WindowStats(total, slowTotal);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
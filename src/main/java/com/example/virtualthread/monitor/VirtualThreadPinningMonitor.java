@@ -0,0 +1,179 @@
+package com.example.virtualthread.monitor;
+
+import com.example.virtualthread.config.PinningMonitorProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * JFR 이벤트 스트리밍 기반 가상 스레드 pinning 감지기
+ * <p>
+ * jdk.VirtualThreadPinned(캐리어를 붙잡은 채 블로킹)와 jdk.VirtualThreadSubmitFailed(스케줄러 제출 실패)를
+ * 구독하여 스택 트레이스 상위 프레임 단위로 횟수와 시간을 집계한다.
+ */
+@Slf4j
+@Component
+public class VirtualThreadPinningMonitor {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+
+    private final PinningMonitorProperties properties;
+    private final ConcurrentHashMap<String, PinnedSite> sites = new ConcurrentHashMap<>();
+    private final Counter pinnedCounter;
+    private final Counter submitFailedCounter;
+    private final Timer pinnedTimer;
+    private final LongAdder untrackedSites = new LongAdder();
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(PinningMonitorProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.pinnedCounter = Counter.builder("virtual.threads.pinned")
+                .description("캐리어 스레드를 pinning한 채 블로킹된 횟수")
+                .register(meterRegistry);
+        this.submitFailedCounter = Counter.builder("virtual.threads.submit.failed")
+                .description("가상 스레드 스케줄러 제출 실패 횟수")
+                .register(meterRegistry);
+        this.pinnedTimer = Timer.builder("virtual.threads.pinned.duration")
+                .description("pinning 지속 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.enabled()) {
+            log.info("가상 스레드 pinning 모니터 비활성화");
+            return;
+        }
+
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(properties.threshold()).withStackTrace();
+        recordingStream.enable(SUBMIT_FAILED_EVENT).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.onEvent(SUBMIT_FAILED_EVENT, this::onSubmitFailed);
+        recordingStream.startAsync();
+
+        log.info("가상 스레드 pinning 모니터 시작 - 기록 임계값: {}ms, 경고 임계값: {}ms",
+                properties.threshold().toMillis(), properties.alertThreshold().toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    /**
+     * 누적 pinning 시간이 긴 순서로 상위 호출 지점 조회
+     */
+    public List<PinnedSiteSummary> topOffenders(int limit) {
+        return sites.values().stream()
+                .map(PinnedSite::summary)
+                .sorted(Comparator.comparingLong(PinnedSiteSummary::totalMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public long pinnedCount() {
+        return (long) pinnedCounter.count();
+    }
+
+    public long submitFailedCount() {
+        return (long) submitFailedCounter.count();
+    }
+
+    public long untrackedSiteCount() {
+        return untrackedSites.sum();
+    }
+
+    void onPinned(RecordedEvent event) {
+        Duration duration = event.getDuration();
+        String stack = describe(event.getStackTrace());
+
+        pinnedCounter.increment();
+        pinnedTimer.record(duration);
+
+        PinnedSite site = sites.get(stack);
+        if (site == null && sites.size() < properties.maxSites()) {
+            site = sites.computeIfAbsent(stack, PinnedSite::new);
+        }
+        if (site != null) {
+            site.record(duration);
+        } else {
+            untrackedSites.increment();
+        }
+
+        if (duration.compareTo(properties.alertThreshold()) >= 0) {
+            log.warn("가상 스레드 pinning 감지 - {}ms (임계값 {}ms), 스레드: {}\n{}",
+                    duration.toMillis(), properties.alertThreshold().toMillis(),
+                    event.getThread() != null ? event.getThread().getJavaName() : "unknown", stack);
+        }
+    }
+
+    void onSubmitFailed(RecordedEvent event) {
+        submitFailedCounter.increment();
+        log.error("가상 스레드 스케줄러 제출 실패 - {}\n{}",
+                event.getString("exceptionMessage"), describe(event.getStackTrace()));
+    }
+
+    private String describe(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "<no stack trace>";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(properties.stackDepth())
+                .map(VirtualThreadPinningMonitor::describe)
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + (frame.isJavaFrame() ? ":" + frame.getLineNumber() : "");
+    }
+
+    public record PinnedSiteSummary(String stackTrace, long count, long totalMillis, long maxMillis) {
+    }
+
+    private static final class PinnedSite {
+
+        private final String stackTrace;
+        private final AtomicLong count = new AtomicLong();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private PinnedSite(String stackTrace) {
+            this.stackTrace = stackTrace;
+        }
+
+        private void record(Duration duration) {
+            count.incrementAndGet();
+            totalNanos.add(duration.toNanos());
+            maxNanos.accumulate(duration.toNanos());
+        }
+
+        private PinnedSiteSummary summary() {
+            return new PinnedSiteSummary(stackTrace, count.get(),
+                    Duration.ofNanos(totalNanos.sum()).toMillis(), Duration.ofNanos(maxNanos.get()).toMillis());
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.virtualthread.service;
+
+import com.example.virtualthread.config.ComplexCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * complexBlockingOperation 앞단의 요청 병합(single-flight) + TTL 결과 캐시
+ * <p>
+ * 같은 taskId에 대한 동시 요청은 진행 중인 하나의 CompletableFuture를 공유하고,
+ * 완료된 결과는 TTL 동안 LRU 캐시에 보관한다. 실패(일부 단계가 실패한 {@link DegradedResultException} 포함)는
+ * negativeTtl 동안만 보관하여 장애 중인 하위 시스템으로 요청이 몰리지 않게 하면서도, 하위 시스템이 회복되면
+ * 곧바로 다시 실행되게 한다.
+ * <p>
+ * LRU 맵은 synchronized 대신 ReentrantLock으로 보호한다 (가상 스레드 pinning 방지).
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class ComplexResultCache {
+
+    private final TaskService taskService;
+    private final ComplexCacheProperties properties;
+    private final ConcurrentHashMap<Integer, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Integer, CacheEntry> entries;
+
+    private final Counter hits;
+    private final Counter negativeHits;
+    private final Counter misses;
+    private final Counter coalesced;
+
+    public ComplexResultCache(TaskService taskService, ComplexCacheProperties properties, MeterRegistry meterRegistry) {
+        this.taskService = taskService;
+        this.properties = properties;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, CacheEntry> eldest) {
+                return size() > properties.maxSize();
+            }
+        };
+
+        this.hits = requests(meterRegistry, "hit");
+        this.negativeHits = requests(meterRegistry, "negative-hit");
+        this.misses = requests(meterRegistry, "miss");
+        this.coalesced = requests(meterRegistry, "coalesced");
+        Gauge.builder("complex.cache.size", this, ComplexResultCache::size)
+                .register(meterRegistry);
+        Gauge.builder("complex.cache.in-flight", inFlight, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 결과, 진행 중인 동일 요청의 결과, 또는 새 실행 결과를 반환
+     */
+    public CompletableFuture<String> get(int taskId) {
+        if (!properties.enabled()) {
+            return taskService.complexBlockingOperation(taskId);
+        }
+
+        CacheEntry cached = lookup(taskId);
+        if (cached != null) {
+            (cached.failure() != null ? negativeHits : hits).increment();
+            return cached.failure() != null
+                    ? CompletableFuture.failedFuture(cached.failure())
+                    : CompletableFuture.completedFuture(cached.value());
+        }
+
+        CompletableFuture<String> leader = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(taskId, leader);
+        if (existing != null) {
+            coalesced.increment();
+            log.debug("[복잡한 작업 {}] 진행 중인 요청에 병합", taskId);
+            return existing.copy();
+        }
+
+        misses.increment();
+        try {
+            taskService.complexBlockingOperation(taskId).whenComplete((value, failure) -> {
+                // 캐시에 먼저 저장한 뒤 진행 중 목록에서 제거해야 그 사이 요청이 중복 실행되지 않는다
+                store(taskId, value, failure);
+                inFlight.remove(taskId, leader);
+                if (failure != null) {
+                    leader.completeExceptionally(failure);
+                } else {
+                    leader.complete(value);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(taskId, leader);
+            leader.completeExceptionally(e);
+        }
+        return leader.copy();
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private CacheEntry lookup(int taskId) {
+        lock.lock();
+        try {
+            CacheEntry entry = entries.get(taskId);
+            if (entry != null && entry.expiresAtNanos() - System.nanoTime() <= 0) {
+                entries.remove(taskId);
+                return null;
+            }
+            return entry;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void store(int taskId, String value, Throwable failure) {
+        long ttlNanos = (failure != null ? properties.negativeTtl() : properties.ttl()).toNanos();
+        if (ttlNanos <= 0) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            entries.put(taskId, new CacheEntry(value, failure, System.nanoTime() + ttlNanos));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("complex.cache.requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record CacheEntry(String value, Throwable failure, long expiresAtNanos) {
+    }
+}
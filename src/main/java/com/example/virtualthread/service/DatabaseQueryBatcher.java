@@ -0,0 +1,174 @@
+package com.example.virtualthread.service;
+
+import com.example.virtualthread.backend.StageBackend;
+import com.example.virtualthread.config.DatabaseBatchProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * DataLoader 방식의 DB 조회 마이크로 배처
+ * <p>
+ * 여러 가상 스레드에서 동시에 들어온 조회를 maxWait 또는 maxBatchSize까지 모아
+ * IN (...) 조회 한 번으로 처리하고, 각 호출자에게 자신의 결과를 돌려준다.
+ * 호출자는 기존처럼 블로킹 호출을 그대로 사용하며, 대기 중에는 가상 스레드만 park된다.
+ * 호출자는 maxWait + queryTimeout까지만 기다리고, 종료 시 대기 중인 조회는 모두 실패로 끝낸다
+ * (호출자가 쥔 벌크헤드/수락 제어 permit이 묶이지 않도록).
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class DatabaseQueryBatcher {
+
+    private final DatabaseBatchProperties properties;
+    private final StageBackend stageBackend;
+    private final LinkedBlockingQueue<PendingQuery> queue = new LinkedBlockingQueue<>();
+    private final DistributionSummary batchSize;
+    private final Timer batchWait;
+    private final Counter roundTrips;
+
+    private volatile boolean stopped;
+    private Thread dispatcher;
+
+    public DatabaseQueryBatcher(DatabaseBatchProperties properties, StageBackend stageBackend,
+                                MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.stageBackend = stageBackend;
+        this.batchSize = DistributionSummary.builder("db.batch.size")
+                .description("배치 조회 한 번에 포함된 키 수")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchWait = Timer.builder("db.batch.wait")
+                .description("조회 요청이 배치에 실려 전송되기까지의 대기 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.roundTrips = Counter.builder("db.batch.round-trips")
+                .description("DB 왕복 횟수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (properties.enabled()) {
+            dispatcher = Thread.ofVirtual().name("db-batch-dispatcher").start(this::dispatchLoop);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+        }
+        failQueued();
+    }
+
+    /**
+     * 단일 키 조회 - 배칭이 켜져 있으면 다른 호출과 묶여 실행된다
+     */
+    public String query(int taskId) throws InterruptedException {
+        if (!properties.enabled()) {
+            roundTrips.increment();
+            batchSize.record(1);
+            stageBackend.queryBatch(List.of(taskId), cost(1));
+            return "DB-Query-Success";
+        }
+
+        if (stopped) {
+            throw new IllegalStateException("DB 조회 배처가 종료되었습니다");
+        }
+        PendingQuery pending = new PendingQuery(taskId, System.nanoTime(), new CompletableFuture<>());
+        queue.add(pending);
+        if (stopped) {
+            // stop()의 정리와 엇갈려 큐에 남은 경우
+            failQueued();
+        }
+
+        long timeoutNanos = properties.maxWait().toNanos() + properties.queryTimeout().toNanos();
+        try {
+            return pending.result().get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("DB 배치 조회 실패", e.getCause());
+        } catch (TimeoutException e) {
+            queue.remove(pending);
+            pending.result().cancel(false);
+            throw new IllegalStateException(String.format("DB 배치 조회가 %dms 안에 끝나지 않았습니다",
+                    TimeUnit.NANOSECONDS.toMillis(timeoutNanos)));
+        }
+    }
+
+    private void dispatchLoop() {
+        log.info("DB 조회 배처 시작 - 최대 배치: {}, 대기: {}ms",
+                properties.maxBatchSize(), properties.maxWait().toMillis());
+
+        while (!Thread.currentThread().isInterrupted()) {
+            List<PendingQuery> batch = new ArrayList<>(properties.maxBatchSize());
+            try {
+                batch.add(queue.take());
+
+                long deadline = System.nanoTime() + properties.maxWait().toNanos();
+                while (batch.size() < properties.maxBatchSize()) {
+                    PendingQuery next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                // 배치 실행 중에도 다음 배치를 모을 수 있도록 별도 가상 스레드에서 조회
+                Thread.ofVirtual().name("db-batch-query").start(() -> execute(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // 모으던 중인 배치는 전송되지 않으므로 호출자에게 실패로 알림
+                IllegalStateException stoppedException = new IllegalStateException("DB 조회 배처가 종료되었습니다");
+                batch.forEach(pending -> pending.result().completeExceptionally(stoppedException));
+            }
+        }
+    }
+
+    private void failQueued() {
+        List<PendingQuery> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        IllegalStateException stoppedException = new IllegalStateException("DB 조회 배처가 종료되었습니다");
+        remaining.forEach(pending -> pending.result().completeExceptionally(stoppedException));
+    }
+
+    private void execute(List<PendingQuery> batch) {
+        long dispatchedNanos = System.nanoTime();
+        batch.forEach(pending -> batchWait.record(dispatchedNanos - pending.enqueuedNanos(), TimeUnit.NANOSECONDS));
+        batchSize.record(batch.size());
+        roundTrips.increment();
+
+        try {
+            log.debug("DB 배치 조회 - 키 {}개", batch.size());
+            stageBackend.queryBatch(batch.stream().map(PendingQuery::taskId).toList(), cost(batch.size()));
+            batch.forEach(pending -> pending.result().complete("DB-Query-Success"));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+        } catch (RuntimeException e) {
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+        }
+    }
+
+    private long cost(int keys) {
+        return properties.baseLatency().toMillis() + properties.perKeyLatency().toMillis() * keys;
+    }
+
+    private record PendingQuery(int taskId, long enqueuedNanos, CompletableFuture<String> result) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.virtualthread.service;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 복잡한 작업의 일부 단계가 실패(벌크헤드 거절, 인터럽트)하여 부분 결과만 얻었을 때 발생
+ * <p>
+ * 성공으로 취급하면 결과 캐시가 부분 결과를 성공 TTL 동안 보관하므로, 실패 경로(negativeTtl)로 보낸다.
+ */
+@Getter
+public class DegradedResultException extends RuntimeException {
+
+    private final int taskId;
+    private final String partialResult;
+    private final List<String> failedStages;
+
+    public DegradedResultException(int taskId, String partialResult, List<String> failedStages) {
+        super(String.format("작업 %d 일부 단계 실패 %s - %s", taskId, failedStages, partialResult));
+        this.taskId = taskId;
+        this.partialResult = partialResult;
+        this.failedStages = List.copyOf(failedStages);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.virtualthread.service;
+
+/**
+ * 구조적 동시성 팬아웃 실패 처리 정책
+ */
+public enum FanOutPolicy {
+
+    /**
+     * 하나의 서브태스크라도 실패하면 나머지 형제 서브태스크를 즉시 취소
+     */
+    FAIL_FAST,
+
+    /**
+     * 실패와 관계없이 모든 서브태스크의 결과를 수집
+     */
+    COLLECT_ALL
+}
@@ -0,0 +1,171 @@
+package com.example.virtualthread.service;
+
+import com.example.virtualthread.backend.StageBackend;
+import com.example.virtualthread.bulkhead.BulkheadFullException;
+import com.example.virtualthread.bulkhead.BulkheadRegistry;
+import com.example.virtualthread.config.ExternalApiProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 헤지 요청을 지원하는 외부 API 호출 시뮬레이터
+ * <p>
+ * 1차 호출이 관측된 p95(설정 분위수)까지 끝나지 않으면 같은 요청을 다른 가상 스레드로 한 번 더 보내고,
+ * 먼저 끝난 쪽의 결과를 사용한다. 늦은 쪽은 {@link StructuredTaskScope.ShutdownOnSuccess}가 인터럽트로 취소한다.
+ * 추가 호출은 1차 호출 수 대비 budgetPercent 이내로 제한된다.
+ * <p>
+ * 1차 호출은 호출자가 확보한 "api" 벌크헤드 슬롯으로 실행되고, 헤지 호출은 슬롯을 하나 더 확보한다.
+ * 슬롯을 얻지 못한 헤지는 발송하지 않고 예산을 돌려주므로 벌크헤드 한도는 실제 동시 호출 수 그대로다.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class HedgedExternalApiClient {
+
+    /** 헤지 예산 최대 적립량 (헤지 호출 수) */
+    private static final long MAX_BUDGET_TOKENS = 100;
+    private static final String BULKHEAD = "api";
+
+    private final ExternalApiProperties.Hedge hedge;
+    private final LatencyModel latencyModel;
+    private final StageBackend stageBackend;
+    private final BulkheadRegistry bulkheads;
+    private final Timer callLatency;
+    private final Counter hedgesSent;
+    private final Counter hedgesWon;
+    private final Counter hedgesCancelled;
+    private final Counter budgetExhausted;
+    private final Counter hedgesRejected;
+
+    /** 헤지 예산 (1/100 호출 단위) - 1차 호출마다 budgetPercent만큼 적립, 헤지 1회에 100 소모 */
+    private final AtomicLong budget = new AtomicLong();
+
+    public HedgedExternalApiClient(ExternalApiProperties properties, StageBackend stageBackend,
+                                   BulkheadRegistry bulkheads, MeterRegistry meterRegistry) {
+        this.hedge = properties.hedge();
+        this.latencyModel = new LatencyModel(properties.latency());
+        this.stageBackend = stageBackend;
+        this.bulkheads = bulkheads;
+        this.callLatency = Timer.builder("api.call.latency")
+                .description("외부 API 개별 호출 지연 (완료된 호출만)")
+                .publishPercentiles(hedge.quantile())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.hedgesSent = hedges(meterRegistry, "sent");
+        this.hedgesWon = hedges(meterRegistry, "won");
+        this.hedgesCancelled = hedges(meterRegistry, "cancelled");
+        this.budgetExhausted = hedges(meterRegistry, "budget-exhausted");
+        this.hedgesRejected = hedges(meterRegistry, "bulkhead-rejected");
+    }
+
+    public String call(int taskId) throws InterruptedException {
+        if (!hedge.enabled()) {
+            return attempt(taskId, false).result();
+        }
+
+        depositBudget();
+        try (var scope = new StructuredTaskScope.ShutdownOnSuccess<Attempt>()) {
+            scope.fork(() -> attempt(taskId, false));
+
+            boolean hedged = false;
+            AtomicBoolean hedgeRejected = new AtomicBoolean();
+            try {
+                scope.joinUntil(Instant.now().plus(hedgeDelay()));
+            } catch (TimeoutException e) {
+                if (tryWithdrawBudget()) {
+                    hedged = true;
+                    hedgesSent.increment();
+                    log.debug("외부 API 헤지 요청 발송 {}", taskId);
+                    scope.fork(() -> hedgeAttempt(taskId, hedgeRejected));
+                } else {
+                    budgetExhausted.increment();
+                }
+                scope.join();
+            }
+
+            Attempt winner = scope.result(cause -> new IllegalStateException("외부 API 호출 실패", cause));
+            if (winner.hedge()) {
+                hedgesWon.increment();
+            } else if (hedged && !hedgeRejected.get()) {
+                hedgesCancelled.increment();
+            }
+            return winner.result();
+        }
+    }
+
+    /**
+     * 관측 표본이 충분하면 설정 분위수, 아니면 초기 지연을 헤지 기준으로 사용
+     */
+    Duration hedgeDelay() {
+        if (callLatency.count() < hedge.minSamples()) {
+            return hedge.initialDelay();
+        }
+        for (ValueAtPercentile percentile : callLatency.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == hedge.quantile()) {
+                long nanos = (long) percentile.value(TimeUnit.NANOSECONDS);
+                Duration observed = Duration.ofNanos(nanos);
+                return observed.compareTo(hedge.minDelay()) < 0 ? hedge.minDelay() : observed;
+            }
+        }
+        return hedge.initialDelay();
+    }
+
+    private Attempt attempt(int taskId, boolean hedgeAttempt) throws InterruptedException {
+        long startNanos = System.nanoTime();
+        stageBackend.callApi(taskId, latencyModel.sampleMillis());
+        // 취소된 호출은 기록되지 않으므로 관측 분위수는 실제보다 다소 낮게 잡힌다
+        callLatency.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        return new Attempt("API-Call-Success", hedgeAttempt);
+    }
+
+    /**
+     * 헤지 호출 - 1차 호출과 별도로 벌크헤드 슬롯을 확보하며, 얻지 못하면 실패하여 1차 호출 결과를 기다린다
+     */
+    private Attempt hedgeAttempt(int taskId, AtomicBoolean rejected) throws InterruptedException {
+        try {
+            return bulkheads.execute(BULKHEAD, () -> attempt(taskId, true));
+        } catch (BulkheadFullException e) {
+            rejected.set(true);
+            hedgesRejected.increment();
+            budget.addAndGet(100);
+            throw e;
+        }
+    }
+
+    private void depositBudget() {
+        budget.getAndUpdate(tokens -> Math.min(tokens + hedge.budgetPercent(), MAX_BUDGET_TOKENS * 100));
+    }
+
+    private boolean tryWithdrawBudget() {
+        long tokens;
+        do {
+            tokens = budget.get();
+            if (tokens < 100) {
+                return false;
+            }
+        } while (!budget.compareAndSet(tokens, tokens - 100));
+        return true;
+    }
+
+    private static Counter hedges(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("api.hedge.requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Attempt(String result, boolean hedge) {
+    }
+}
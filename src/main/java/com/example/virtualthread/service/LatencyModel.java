@@ -0,0 +1,31 @@
+package com.example.virtualthread.service;
+
+import com.example.virtualthread.config.ExternalApiProperties;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 설정된 분포에서 시뮬레이션 지연(ms)을 추출
+ */
+final class LatencyModel {
+
+    private final ExternalApiProperties.Latency latency;
+
+    LatencyModel(ExternalApiProperties.Latency latency) {
+        this.latency = latency;
+    }
+
+    long sampleMillis() {
+        long base = latency.base().toMillis();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (latency.distribution()) {
+            case FIXED -> base;
+            // 중앙값이 base인 log-normal 분포
+            case LOG_NORMAL -> Math.round(base * Math.exp(latency.sigma() * random.nextGaussian()));
+            // 대부분은 base, 일정 확률로 꼬리 지연
+            case BIMODAL -> random.nextDouble() < latency.spikeProbability()
+                    ? latency.spike().toMillis()
+                    : base;
+        };
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.virtualthread.service;
+
+/**
+ * 스트리밍 병렬 작업의 개별 결과
+ */
+public record ParallelTaskResult(int taskId, String result) {
+}
@@ -0,0 +1,113 @@
+package com.example.virtualthread.service;
+
+import com.example.virtualthread.config.BackendProperties;
+import com.example.virtualthread.config.ComplexCacheProperties;
+import com.example.virtualthread.config.DatabaseBatchProperties;
+import com.example.virtualthread.config.ExternalApiProperties;
+import com.example.virtualthread.eventlog.TaskEventLog;
+import com.example.virtualthread.eventlog.TaskEventType;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * TaskService의 Reactor 구현 - 가상 스레드 스택과 직접 비교하기 위한 reactive 프로파일 전용
+ * <p>
+ * 블로킹 sleep 대신 Mono.delay로 같은 지연을 만든다. 단계별 지연은 TaskService와 같은 설정
+ * (DB 배치 비용, 외부 API 지연 분포, 파일 지연)에서 가져오지만, 배칭·헤징·벌크헤드·수락 제어는
+ * 적용하지 않으므로 두 스택의 차이는 동시성 모델과 서버(Tomcat / Netty)만 남는다.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveTaskService {
+
+    private final DatabaseBatchProperties databaseProperties;
+    private final BackendProperties backendProperties;
+    private final ComplexCacheProperties cacheProperties;
+    private final LatencyModel apiLatency;
+    private final TaskEventLog taskEvents;
+    private final AtomicInteger taskCounter = new AtomicInteger(0);
+    // 같은 taskId는 하나의 캐시된 Mono를 공유 - 진행 중 병합과 TTL을 Mono.cache가 처리하고,
+    // 맵은 maxSize를 넘으면 가장 오래 사용되지 않은 항목을 제거 (TTL이 지난 Mono는 다음 구독 때 다시 실행)
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Integer, Mono<String>> complexResults;
+
+    public ReactiveTaskService(DatabaseBatchProperties databaseProperties, BackendProperties backendProperties,
+                               ComplexCacheProperties cacheProperties, ExternalApiProperties apiProperties,
+                               TaskEventLog taskEvents) {
+        this.databaseProperties = databaseProperties;
+        this.backendProperties = backendProperties;
+        this.cacheProperties = cacheProperties;
+        this.apiLatency = new LatencyModel(apiProperties.latency());
+        this.taskEvents = taskEvents;
+        this.complexResults = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Mono<String>> eldest) {
+                return size() > cacheProperties.maxSize();
+            }
+        };
+    }
+
+    public Mono<String> processSyncTask(int taskId, int delayMillis) {
+        return Mono.delay(Duration.ofMillis(delayMillis))
+                .map(tick -> String.format("동기 작업 %d 완료 (지연: %dms) - 스레드: %s",
+                        taskId, delayMillis, Thread.currentThread()));
+    }
+
+    public Mono<String> processAsyncTask(int taskId, int delayMillis) {
+        return Mono.delay(Duration.ofMillis(delayMillis))
+                .map(tick -> String.format("비동기 작업 %d 완료 (지연: %dms) - 스레드: %s",
+                        taskId, delayMillis, Thread.currentThread()));
+    }
+
+    /**
+     * 병렬 처리 - 모든 작업의 지연을 동시에 시작하고 작업 순서대로 결과 수집
+     */
+    public Mono<List<String>> processParallelTasks(int count, int delayMillis) {
+        return Flux.range(0, count)
+                .flatMapSequential(i -> processAsyncTask(taskCounter.incrementAndGet(), delayMillis),
+                        Math.max(1, count))
+                .collectList();
+    }
+
+    /**
+     * 복잡한 작업 - DB, 외부 API, 파일 단계를 순서대로 실행 (ComplexResultCache와 같은 병합·TTL 캐시)
+     */
+    public Mono<String> complexOperation(int taskId) {
+        if (!cacheProperties.enabled()) {
+            return runComplexOperation(taskId);
+        }
+
+        lock.lock();
+        try {
+            return complexResults.computeIfAbsent(taskId, id -> runComplexOperation(id).cache(
+                    result -> cacheProperties.ttl(),
+                    error -> cacheProperties.negativeTtl(),
+                    () -> Duration.ZERO));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Mono<String> runComplexOperation(int taskId) {
+        return stage("DB-Query-Success", databaseProperties.baseLatency().toMillis()
+                        + databaseProperties.perKeyLatency().toMillis())
+                .flatMap(result1 -> Mono.defer(() -> stage("API-Call-Success", apiLatency.sampleMillis()))
+                        .flatMap(result2 -> stage("File-Op-Success", backendProperties.fileLatency().toMillis())
+                                .map(result3 -> String.format("작업 %d 결과: %s | %s | %s",
+                                        taskId, result1, result2, result3))))
+                .doOnSubscribe(subscription -> taskEvents.record(TaskEventType.COMPLEX_STARTED, taskId));
+    }
+
+    private static Mono<String> stage(String result, long delayMillis) {
+        return Mono.delay(Duration.ofMillis(delayMillis)).thenReturn(result);
+    }
+}
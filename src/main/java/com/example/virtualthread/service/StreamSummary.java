@@ -0,0 +1,9 @@
+package com.example.virtualthread.service;
+
+/**
+ * 스트리밍 병렬 작업 종료 요약
+ *
+ * @param cancelled 클라이언트 연결 종료로 남은 작업이 취소되었는지 여부
+ */
+public record StreamSummary(int totalTasks, int completed, int failed, boolean cancelled, long elapsedMillis) {
+}
@@ -0,0 +1,24 @@
+package com.example.virtualthread.service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 구조적 동시성 팬아웃 실행 결과
+ *
+ * @param results          단계별 결과 (성공 값, FAILED 또는 CANCELLED)
+ * @param failures         실패한 단계와 원인
+ * @param deadlineExceeded 데드라인 초과로 남은 서브태스크가 취소되었는지 여부
+ */
+public record StructuredTaskResult(
+        int taskId,
+        FanOutPolicy policy,
+        Map<String, String> results,
+        List<String> failures,
+        boolean deadlineExceeded,
+        long elapsedMillis) {
+
+    public boolean isComplete() {
+        return failures.isEmpty() && !deadlineExceeded;
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.virtualthread.service;
+
+import com.example.virtualthread.config.AdmissionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 팬아웃 작업 수락 제어 - 전역 동시 실행 한도, 요청별 팬아웃 상한, 제한된 대기열
+ * <p>
+ * 요청은 생성할 작업 수만큼 permit을 한 번에 확보하고, 모든 작업이 끝난 뒤 반납한다.
+ * 한도를 넘는 요청은 스레드와 결과 객체를 만들기 전에 거절되므로 과부하 시에도 힙 사용량이 제한된다.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class TaskAdmissionLimiter {
+
+    private final AdmissionProperties properties;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Map<TaskRejectedException.Reason, Counter> rejections =
+            new EnumMap<>(TaskRejectedException.Reason.class);
+
+    public TaskAdmissionLimiter(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.permits = new Semaphore(properties.maxConcurrentTasks(), true);
+
+        Gauge.builder("tasks.admission.permits.in-use", this, TaskAdmissionLimiter::permitsInUse)
+                .description("실행 중인 팬아웃 작업이 점유한 permit 수")
+                .register(meterRegistry);
+        Gauge.builder("tasks.admission.permits.limit", properties, AdmissionProperties::maxConcurrentTasks)
+                .description("전역 동시 실행 한도")
+                .register(meterRegistry);
+        Gauge.builder("tasks.admission.queue.depth", waiting, AtomicInteger::get)
+                .description("permit을 기다리는 요청 수")
+                .register(meterRegistry);
+        for (TaskRejectedException.Reason reason : TaskRejectedException.Reason.values()) {
+            rejections.put(reason, Counter.builder("tasks.admission.rejected")
+                    .tag("reason", reason.name())
+                    .register(meterRegistry));
+        }
+
+        log.info("작업 수락 제어 설정 - 동시 실행 한도: {}, 요청별 상한: {}, 대기열: {}, 대기 시간: {}ms",
+                properties.maxConcurrentTasks(), properties.maxFanOut(),
+                properties.maxQueueDepth(), properties.queueTimeout().toMillis());
+    }
+
+    /**
+     * tasks개의 작업에 대한 permit 확보 - 실패 시 TaskRejectedException
+     */
+    public Permit acquire(int tasks) {
+        if (tasks > properties.maxFanOut()) {
+            throw reject(TaskRejectedException.Reason.FAN_OUT_LIMIT,
+                    String.format("요청 작업 수 %d가 요청별 상한 %d를 초과합니다", tasks, properties.maxFanOut()));
+        }
+
+        try {
+            // 공정 모드를 유지하기 위해 대기 없는 시도도 timed 버전을 사용
+            if (permits.tryAcquire(tasks, 0, TimeUnit.MILLISECONDS)) {
+                return new Permit(tasks);
+            }
+
+            if (waiting.incrementAndGet() > properties.maxQueueDepth()) {
+                waiting.decrementAndGet();
+                throw reject(TaskRejectedException.Reason.QUEUE_FULL,
+                        String.format("대기열이 가득 찼습니다 (최대 %d)", properties.maxQueueDepth()));
+            }
+            try {
+                if (!permits.tryAcquire(tasks, properties.queueTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                    throw reject(TaskRejectedException.Reason.QUEUE_TIMEOUT,
+                            String.format("%dms 안에 작업 %d개를 수락하지 못했습니다",
+                                    properties.queueTimeout().toMillis(), tasks));
+                }
+                return new Permit(tasks);
+            } finally {
+                waiting.decrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("작업 중단됨", e);
+        }
+    }
+
+    public int permitsInUse() {
+        return properties.maxConcurrentTasks() - permits.availablePermits();
+    }
+
+    public int queueDepth() {
+        return waiting.get();
+    }
+
+    private TaskRejectedException reject(TaskRejectedException.Reason reason, String message) {
+        rejections.get(reason).increment();
+        log.warn("작업 거절 - {}: {}", reason, message);
+        return new TaskRejectedException(reason, message);
+    }
+
+    /**
+     * 확보한 permit - 작업이 모두 끝나면 close()로 반납
+     */
+    public final class Permit implements AutoCloseable {
+
+        private final int tasks;
+        private final AtomicInteger released = new AtomicInteger();
+
+        private Permit(int tasks) {
+            this.tasks = tasks;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(0, 1)) {
+                permits.release(tasks);
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.virtualthread.service;
+
+import java.util.Locale;
+
+/**
+ * 작업 실행 경로 구분
+ */
+public enum TaskKind {
+    SYNC,
+    ASYNC,
+    PARALLEL,
+    DIRECT,
+    COMPLEX,
+    STRUCTURED;
+
+    // 메트릭 type 태그 - 작업마다 name().toLowerCase()로 새 문자열을 만들지 않도록 미리 계산
+    private final String tag = name().toLowerCase(Locale.ROOT);
+
+    public String tag() {
+        return tag;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.virtualthread.service;
+
+/**
+ * 레지스트리에 등록된 실행 중 작업 - 문자열 대신 고정 크기 필드만 보관
+ */
+public record TaskRecord(int taskId, TaskKind kind, long startNanos, long threadId) {
+
+    public long runningMillis(long nowNanos) {
+        return (nowNanos - startNanos) / 1_000_000;
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.virtualthread.service;
+
+import com.example.virtualthread.config.TaskRegistryProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실행 중 작업 레지스트리
+ * <p>
+ * 작업 시작 시 등록하고 완료/실패 시 Registration.close()로 제거한다.
+ * 용량이 차면 staleAfter보다 오래된 항목만 제거하고, 그래도 부족하면 새 작업을 추적하지 않는다.
+ * 오래 실행 중인 작업(멈춘 작업)은 /threads로 조회해야 하는 대상이므로 용량 때문에 밀어내지 않으며,
+ * 가동 시간과 무관하게 메모리 사용량은 capacity로 제한된다.
+ * <p>
+ * 용량 검사와 삽입 사이의 경쟁으로 팬아웃 시 capacity를 넘지 않도록, 삽입 전에 slots 카운터를 CAS로 먼저 예약하고
+ * 항목이 제거될 때(close 또는 정리) 반납한다.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class TaskRegistry {
+
+    /**
+     * 용량이 찬 동안 오래된 항목 정리(전체 순회)를 시도하는 최소 간격
+     */
+    private static final long SWEEP_INTERVAL_NANOS = Duration.ofSeconds(1).toNanos();
+    private static final long UNTRACKED_KEY = 0;
+
+    private final TaskRegistryProperties properties;
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentHashMap<Long, TaskRecord> running = new ConcurrentHashMap<>();
+    // 예약된 슬롯 수 - running에 들어갈(또는 들어가 있는) 항목 수이며 capacity를 넘지 않음
+    private final AtomicInteger slots = new AtomicInteger();
+    private final AtomicLong nextSweepNanos = new AtomicLong(System.nanoTime());
+    private final Counter evicted;
+    private final Counter untracked;
+
+    public TaskRegistry(TaskRegistryProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+
+        Gauge.builder("tasks.registry.size", running, Map::size)
+                .description("레지스트리에 등록된 실행 중 작업 수")
+                .register(meterRegistry);
+        this.evicted = Counter.builder("tasks.registry.evicted")
+                .description("용량이 찼을 때 staleAfter가 지나 완료 전에 제거된 작업 수")
+                .register(meterRegistry);
+        this.untracked = Counter.builder("tasks.registry.untracked")
+                .description("용량이 차서 레지스트리에 등록하지 않은 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 스레드에서 시작하는 작업 등록 - 용량이 찼으면 추적하지 않는 핸들을 반환
+     */
+    public Registration register(int taskId, TaskKind kind) {
+        if (!reserveSlot() && (!sweepStale() || !reserveSlot())) {
+            untracked.increment();
+            return new Registration(UNTRACKED_KEY);
+        }
+
+        long key = sequence.incrementAndGet();
+        running.put(key, new TaskRecord(taskId, kind, System.nanoTime(), Thread.currentThread().threadId()));
+        return new Registration(key);
+    }
+
+    /**
+     * 조건에 맞는 실행 중 작업을 오래 실행된 순서로 페이지 조회
+     *
+     * @param kind             null이면 전체
+     * @param minRunningMillis 이 시간 이상 실행 중인 작업만
+     */
+    public TaskPage find(TaskKind kind, long minRunningMillis, int page, int size) {
+        long now = System.nanoTime();
+
+        List<TaskRecord> matched = running.values().stream()
+                .filter(task -> kind == null || task.kind() == kind)
+                .filter(task -> task.runningMillis(now) >= minRunningMillis)
+                .sorted(Comparator.comparingLong(TaskRecord::startNanos))
+                .toList();
+
+        List<TaskSnapshot> items = matched.stream()
+                .skip((long) page * size)
+                .limit(size)
+                .map(task -> new TaskSnapshot(task.taskId(), task.kind(), task.threadId(), task.runningMillis(now)))
+                .toList();
+
+        return new TaskPage(matched.size(), page, size, items);
+    }
+
+    public int size() {
+        return running.size();
+    }
+
+    private boolean reserveSlot() {
+        int reserved;
+        do {
+            reserved = slots.get();
+            if (reserved >= properties.capacity()) {
+                return false;
+            }
+        } while (!slots.compareAndSet(reserved, reserved + 1));
+        return true;
+    }
+
+    /**
+     * staleAfter가 지난 항목 제거 - 전체 순회이므로 SWEEP_INTERVAL마다 한 스레드만 수행
+     *
+     * @return 이번 호출에서 정리를 수행했으면 true
+     */
+    private boolean sweepStale() {
+        long now = System.nanoTime();
+        long allowed = nextSweepNanos.get();
+        if (now - allowed < 0 || !nextSweepNanos.compareAndSet(allowed, now + SWEEP_INTERVAL_NANOS)) {
+            return false;
+        }
+
+        long staleBefore = now - properties.staleAfter().toNanos();
+        int removed = 0;
+        for (Map.Entry<Long, TaskRecord> entry : running.entrySet()) {
+            if (entry.getValue().startNanos() - staleBefore < 0 && running.remove(entry.getKey(), entry.getValue())) {
+                slots.decrementAndGet();
+                removed++;
+            }
+        }
+        evicted.increment(removed);
+
+        if (slots.get() >= properties.capacity()) {
+            // 정리 간격마다 최대 한 번만 경고
+            log.warn("작업 레지스트리 용량({}) 초과 - 오래된 항목 {}개 제거, 새 작업은 용량이 빌 때까지 추적하지 않음",
+                    properties.capacity(), removed);
+        }
+        return true;
+    }
+
+    /**
+     * 조회용 스냅샷
+     */
+    public record TaskSnapshot(int taskId, TaskKind kind, long threadId, long runningMillis) {
+    }
+
+    public record TaskPage(int matched, int page, int size, List<TaskSnapshot> items) {
+    }
+
+    /**
+     * 등록 핸들 - 작업 완료/실패 시 close()
+     */
+    public final class Registration implements AutoCloseable {
+
+        private final long key;
+
+        private Registration(long key) {
+            this.key = key;
+        }
+
+        /**
+         * 용량 초과로 추적되지 않은 작업이면 false
+         */
+        public boolean tracked() {
+            return key != UNTRACKED_KEY;
+        }
+
+        @Override
+        public void close() {
+            // 정리로 이미 제거된 항목이면 슬롯도 이미 반납됨
+            if (key != UNTRACKED_KEY && running.remove(key) != null) {
+                slots.decrementAndGet();
+            }
+        }
+    }
+}
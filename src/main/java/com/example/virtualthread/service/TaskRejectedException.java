@@ -0,0 +1,34 @@
+package com.example.virtualthread.service;
+
+import lombok.Getter;
+
+/**
+ * 작업 수락 제어에 의해 요청이 거절되었을 때 발생
+ */
+@Getter
+public class TaskRejectedException extends RuntimeException {
+
+    public enum Reason {
+        /**
+         * 요청 하나의 팬아웃 개수가 상한을 초과
+         */
+        FAN_OUT_LIMIT,
+
+        /**
+         * permit 대기열이 가득 참
+         */
+        QUEUE_FULL,
+
+        /**
+         * 대기 시간 내에 permit을 얻지 못함
+         */
+        QUEUE_TIMEOUT
+    }
+
+    private final Reason reason;
+
+    public TaskRejectedException(Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+}
@@ -1,84 +1,144 @@
 package com.example.virtualthread.service;
 
+import com.example.virtualthread.backend.StageBackend;
+import com.example.virtualthread.bulkhead.BulkheadFullException;
+import com.example.virtualthread.bulkhead.BulkheadRegistry;
+import com.example.virtualthread.context.RequestContexts;
+import com.example.virtualthread.dispatch.FairTaskDispatcher;
+import com.example.virtualthread.eventlog.TaskEventLog;
+import com.example.virtualthread.eventlog.TaskEventType;
+import com.example.virtualthread.metrics.TaskMetrics;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
 import java.util.stream.IntStream;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
+@Profile("!reactive")
 public class TaskService {
 
+    @Qualifier("virtualThreadExecutor")
+    private final AsyncTaskExecutor virtualThreadExecutor;
+    private final TaskAdmissionLimiter admissionLimiter;
+    private final TaskRegistry taskRegistry;
+    private final TaskMetrics taskMetrics;
+    private final DatabaseQueryBatcher databaseQueryBatcher;
+    private final HedgedExternalApiClient externalApiClient;
+    private final BulkheadRegistry bulkheads;
+    private final StageBackend stageBackend;
+    private final FairTaskDispatcher dispatcher;
+    private final TaskEventLog taskEvents;
+
     private final AtomicInteger taskCounter = new AtomicInteger(0);
-    private final ConcurrentHashMap<Long, String> threadTasks = new ConcurrentHashMap<>();
 
     /**
      * 동기 처리 - 블로킹 I/O 작업 시뮬레이션
      */
     public String processSyncTask(int taskId, int delayMillis) {
-        String threadName = Thread.currentThread().toString();
-        log.info("[동기 작업 {}] 시작 - 스레드: {}", taskId, threadName);
-
-        threadTasks.put(Thread.currentThread().threadId(), "Task-" + taskId + " - " + threadName);
-
         try {
-            // 블로킹 작업 시뮬레이션 (DB 조회, API 호출 등)
-            Thread.sleep(delayMillis);
-
-            String result = String.format("동기 작업 %d 완료 (지연: %dms) - 스레드: %s", taskId, delayMillis, threadName);
-
-            log.info("[동기 작업 {}] 완료", taskId);
-            return result;
+            return RequestContexts.callForTask(taskId, () -> runSyncTask(taskId, delayMillis));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new RuntimeException("작업 중단됨", e);
         }
     }
 
+    private String runSyncTask(int taskId, int delayMillis) throws InterruptedException {
+        // 작업별 이벤트는 문자열을 만들지 않고 이벤트 로그 버퍼에 넣기만 함 (요청 ID는 컨텍스트에서)
+        taskEvents.record(TaskEventType.SYNC_STARTED, taskId, delayMillis);
+        long startNanos = System.nanoTime();
+
+        try (TaskRegistry.Registration ignored = taskRegistry.register(taskId, TaskKind.SYNC)) {
+            return taskMetrics.recordExecution("sync", () -> {
+                // 블로킹 작업 시뮬레이션 (DB 조회, API 호출 등)
+                stageBackend.blockingCall(taskId, delayMillis);
+
+                taskEvents.record(TaskEventType.SYNC_COMPLETED, taskId, elapsedMillis(startNanos));
+                return "동기 작업 " + taskId + " 완료 (지연: " + delayMillis + "ms) - " + currentThreadLabel();
+            });
+        }
+    }
+
     /**
      * 비동기 처리 - 가상 스레드 사용
      */
     @Async("virtualThreadExecutor")
     public CompletableFuture<String> processAsyncTask(int taskId, int delayMillis) {
-        String threadName = Thread.currentThread().toString();
-        log.info("[비동기 작업 {}] 시작 - 스레드: {}", taskId, threadName);
-
-        threadTasks.put(Thread.currentThread().threadId(), "Async-Task-" + taskId + " - " + threadName);
-
         try {
-            // 블로킹 작업 시뮬레이션
-            Thread.sleep(delayMillis);
-
-            String result = String.format("비동기 작업 %d 완료 (지연: %dms) - 스레드: %s", taskId, delayMillis, threadName);
-
-            log.info("[비동기 작업 {}] 완료", taskId);
-            return CompletableFuture.completedFuture(result);
+            return CompletableFuture.completedFuture(runAsyncTask(taskId, delayMillis, TaskKind.ASYNC));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             return CompletableFuture.failedFuture(e);
         }
     }
 
+    private String runAsyncTask(int taskId, int delayMillis, TaskKind kind) throws InterruptedException {
+        return RequestContexts.callForTask(taskId, () -> {
+            taskEvents.record(TaskEventType.ASYNC_STARTED, taskId, delayMillis);
+            long startNanos = System.nanoTime();
+
+            try (TaskRegistry.Registration ignored = taskRegistry.register(taskId, kind)) {
+                return taskMetrics.recordExecution(kind.tag(), () -> {
+                    // 블로킹 작업 시뮬레이션
+                    stageBackend.blockingCall(taskId, delayMillis);
+
+                    taskEvents.record(TaskEventType.ASYNC_COMPLETED, taskId, elapsedMillis(startNanos));
+                    return "비동기 작업 " + taskId + " 완료 (지연: " + delayMillis + "ms) - " + currentThreadLabel();
+                });
+            }
+        });
+    }
+
     /**
      * 병렬 처리 - 여러 가상 스레드로 동시 실행
      */
     public List<String> processParallelTasks(int count, int delayMillis) {
+        try (TaskAdmissionLimiter.Permit ignored = admissionLimiter.acquire(count)) {
+            return taskMetrics.recordBatch("parallel", () -> runParallelTasks(count, delayMillis));
+        }
+    }
+
+    private List<String> runParallelTasks(int count, int delayMillis) {
         log.info("병렬 작업 {}개 시작 (각각 지연: {}ms)", count, delayMillis);
 
         LocalDateTime startTime = LocalDateTime.now();
 
+        // 같은 빈 내부 호출은 @Async 프록시를 거치지 않으므로 Executor에 직접 제출
+        // 개별 작업은 공정 디스패처를 거쳐 다른 클라이언트의 작업과 번갈아 실행 예산을 배정받음
+        FairTaskDispatcher.FlowKey flow = dispatcher.flowFor(count);
         List<CompletableFuture<String>> futures = IntStream.range(0, count)
                 .mapToObj(i -> {
                     int taskId = taskCounter.incrementAndGet();
-                    return processAsyncTask(taskId, delayMillis);
+                    return dispatcher.submit(flow, virtualThreadExecutor,
+                            () -> runAsyncTask(taskId, delayMillis, TaskKind.PARALLEL));
                 })
                 .toList();
 
@@ -99,55 +159,189 @@ public class TaskService {
         return results;
     }
 
+    /**
+     * 스트리밍 병렬 처리 - 결과를 모아두지 않고 완료되는 순서대로 sink에 전달
+     * <p>
+     * sink가 false를 반환하면(클라이언트 연결 종료) 남은 작업을 인터럽트하여 취소한다.
+     * permit 확보는 호출 스레드에서 수행되므로 수락 거절은 응답 스트림을 열기 전에 전달된다.
+     */
+    public CompletableFuture<StreamSummary> streamParallelTasks(int count, int delayMillis,
+                                                                Predicate<ParallelTaskResult> sink) {
+        TaskAdmissionLimiter.Permit permit = admissionLimiter.acquire(count);
+        try {
+            return CompletableFuture.supplyAsync(
+                            () -> taskMetrics.recordBatch("parallel-stream", () -> runStreamingTasks(count, delayMillis, sink)),
+                            virtualThreadExecutor)
+                    .whenComplete((summary, failure) -> permit.close());
+        } catch (RuntimeException e) {
+            permit.close();
+            throw e;
+        }
+    }
+
+    private StreamSummary runStreamingTasks(int count, int delayMillis, Predicate<ParallelTaskResult> sink) {
+        log.info("스트리밍 병렬 작업 {}개 시작 (각각 지연: {}ms)", count, delayMillis);
+
+        long startNanos = System.nanoTime();
+        // runParallelTasks와 같이 개별 작업은 공정 디스패처를 거쳐 다른 클라이언트의 작업과 번갈아 실행 예산을 배정받음
+        FairTaskDispatcher.FlowKey flow = dispatcher.flowFor(count);
+        StreamingRun run = new StreamingRun(sink);
+        List<CompletableFuture<Void>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count && !run.isCancelled(); i++) {
+            int taskId = taskCounter.incrementAndGet();
+            futures.add(dispatcher.submit(flow, virtualThreadExecutor, () -> run.execute(
+                    () -> new ParallelTaskResult(taskId, runAsyncTask(taskId, delayMillis, TaskKind.PARALLEL)))));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+        } catch (InterruptedException e) {
+            run.cancel();
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (ExecutionException e) {
+            // 디스패처가 제출을 거절한 경우 (종료 중) - 작업 자체의 실패는 run.execute에서 집계됨
+            run.cancel();
+            throw new CompletionException(e.getCause());
+        }
+
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+        log.info("스트리밍 병렬 작업 {}개 종료 - 완료: {}, 실패: {}, 취소: {} (소요시간: {}ms)",
+                count, run.completed.get(), run.failed.get(), run.isCancelled(), elapsedMillis);
+
+        return new StreamSummary(count, run.completed.get(), run.failed.get(), run.isCancelled(), elapsedMillis);
+    }
+
+    /**
+     * 작업 완료 즉시 결과를 sink로 전달 - sink가 거부하면 실행 중인 작업을 인터럽트하고, 아직 차례가 오지 않은 작업은 건너뜀
+     * <p>
+     * 디스패처가 배정한 스레드에서 실행되므로 StructuredTaskScope 대신 실행 중인 스레드를 직접 추적한다.
+     * 등록/해제와 인터럽트를 같은 lock 아래에서 하므로 해제된 스레드(다른 작업에 재사용될 수 있는 풀 스레드 포함)는 인터럽트되지 않는다.
+     */
+    private static final class StreamingRun {
+
+        private final Predicate<ParallelTaskResult> sink;
+        private final AtomicInteger completed = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Set<Thread> running = new HashSet<>();
+        private volatile boolean cancelled;
+
+        private StreamingRun(Predicate<ParallelTaskResult> sink) {
+            this.sink = sink;
+        }
+
+        boolean isCancelled() {
+            return cancelled;
+        }
+
+        Void execute(Callable<ParallelTaskResult> task) {
+            Thread thread = Thread.currentThread();
+            lock.lock();
+            try {
+                if (cancelled) {
+                    return null;
+                }
+                running.add(thread);
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                ParallelTaskResult result = task.call();
+                completed.incrementAndGet();
+                if (!sink.test(result)) {
+                    cancel();
+                }
+            } catch (Exception e) {
+                // 취소로 인터럽트된 작업은 실패로 세지 않음
+                if (!cancelled) {
+                    failed.incrementAndGet();
+                }
+            } finally {
+                lock.lock();
+                try {
+                    running.remove(thread);
+                } finally {
+                    lock.unlock();
+                }
+                // 취소 인터럽트가 스레드에 남지 않도록 정리
+                Thread.interrupted();
+            }
+            return null;
+        }
+
+        void cancel() {
+            lock.lock();
+            try {
+                cancelled = true;
+                Thread current = Thread.currentThread();
+                running.stream()
+                        .filter(thread -> thread != current)
+                        .forEach(Thread::interrupt);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
     /**
      * 가상 스레드 직접 생성 예제
      */
     public List<String> createVirtualThreadsDirectly(int count, int delayMillis) {
+        try (TaskAdmissionLimiter.Permit ignored = admissionLimiter.acquire(count)) {
+            return taskMetrics.recordBatch("direct", () -> runVirtualThreadsDirectly(count, delayMillis));
+        }
+    }
+
+    private List<String> runVirtualThreadsDirectly(int count, int delayMillis) {
         log.info("직접 가상 스레드 {}개 생성", count);
 
-        List<Thread> threads = new ArrayList<>();
-        List<String> results = new ArrayList<>();
+        FairTaskDispatcher.FlowKey flow = dispatcher.flowFor(count);
 
+        // 스레드는 디스패처가 실행 예산을 배정한 시점에 생성
+        // 직접 만든 스레드는 ScopedValue 바인딩을 상속하지 않지만 디스패처가 제출 시점의 컨텍스트를 다시 바인딩함
+        List<CompletableFuture<String>> futures = new ArrayList<>(count);
         for (int i = 0; i < count; i++) {
             int taskId = i + 1;
-            Thread thread = Thread.ofVirtual()
-                    .name("direct-virtual-thread-" + taskId)
-                    .start(() -> {
-                        String threadName = Thread.currentThread().toString();
-                        log.info("[직접 생성 가상 스레드 {}] 시작", taskId);
-
-                        try {
-                            Thread.sleep(delayMillis);
-                            String result = String.format("직접 생성 작업 %d 완료 - %s",
-                                    taskId, threadName);
-                            synchronized (results) {
-                                results.add(result);
-                            }
-                            log.info("[직접 생성 가상 스레드 {}] 완료", taskId);
-                        } catch (InterruptedException e) {
-                            Thread.currentThread().interrupt();
-                        }
-                    });
-            threads.add(thread);
-        }
-
-        // 모든 스레드 완료 대기
-        threads.forEach(thread -> {
-            try {
-                thread.join();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        });
+            futures.add(dispatcher.submit(flow,
+                    runnable -> Thread.ofVirtual().name("direct-virtual-thread-" + taskId).start(runnable),
+                    () -> RequestContexts.callForTask(taskId, () -> runDirectTask(taskId, delayMillis))));
+        }
 
-        return results;
+        // 모든 스레드 완료 대기 - 인터럽트된 작업은 결과에서 제외
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private String runDirectTask(int taskId, int delayMillis) {
+        taskEvents.record(TaskEventType.DIRECT_STARTED, taskId, delayMillis);
+        long startNanos = System.nanoTime();
+
+        try (TaskRegistry.Registration ignored = taskRegistry.register(taskId, TaskKind.DIRECT)) {
+            String result = taskMetrics.recordExecution("direct", () -> {
+                stageBackend.blockingCall(taskId, delayMillis);
+                return "직접 생성 작업 " + taskId + " 완료 - " + currentThreadLabel();
+            });
+            taskEvents.record(TaskEventType.DIRECT_COMPLETED, taskId, elapsedMillis(startNanos));
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
     }
 
     /**
-     * 현재 활성화된 스레드 정보 조회
+     * 실행 중 작업 조회 - 오래 실행된 순서
      */
-    public ConcurrentHashMap<Long, String> getActiveThreadTasks() {
-        return threadTasks;
+    public TaskRegistry.TaskPage findRunningTasks(TaskKind kind, long minRunningMillis, int page, int size) {
+        return taskRegistry.find(kind, minRunningMillis, page, size);
+    }
+
+    public int runningTaskCount() {
+        return taskRegistry.size();
     }
 
     /**
@@ -155,50 +349,160 @@ public class TaskService {
      */
     @Async("virtualThreadExecutor")
     public CompletableFuture<String> complexBlockingOperation(int taskId) {
-        log.info("[복잡한 작업 {}] 시작", taskId);
-
-        // 여러 블로킹 작업을 순차적으로 실행
-        String result1 = simulateDatabaseQuery(taskId);
-        String result2 = simulateExternalApiCall(taskId);
-        String result3 = simulateFileOperation(taskId);
+        return RequestContexts.callForTask(taskId, () -> runComplexBlockingOperation(taskId));
+    }
 
-        String finalResult = String.format("작업 %d 결과: %s | %s | %s",
-                taskId, result1, result2, result3);
-        log.info("[복잡한 작업 {}] 종료 - {}", taskId, finalResult);
+    private CompletableFuture<String> runComplexBlockingOperation(int taskId) {
+        taskEvents.record(TaskEventType.COMPLEX_STARTED, taskId);
+        long startNanos = System.nanoTime();
+
+        List<String> failedStages = new ArrayList<>();
+        try (TaskRegistry.Registration ignored = taskRegistry.register(taskId, TaskKind.COMPLEX)) {
+            String finalResult = taskMetrics.recordExecution("complex", () -> {
+                // 여러 블로킹 작업을 순차적으로 실행
+                String result1 = runStage("db", () -> simulateDatabaseQuery(taskId), "DB-Query-Error", failedStages);
+                String result2 = runStage("api", () -> simulateExternalApiCall(taskId), "API-Call-Error", failedStages);
+                String result3 = runStage("file", () -> simulateFileOperation(taskId), "File-Op-Error", failedStages);
+
+                String result = String.format("작업 %d 결과: %s | %s | %s", taskId, result1, result2, result3);
+                if (!failedStages.isEmpty()) {
+                    // 부분 결과는 성공이 아니므로 실패로 기록하고 캐시도 negativeTtl로 보관되게 함
+                    throw new DegradedResultException(taskId, result, failedStages);
+                }
+                return result;
+            });
+            return CompletableFuture.completedFuture(finalResult);
+        } catch (DegradedResultException e) {
+            log.warn(e.getMessage());
+            return CompletableFuture.failedFuture(e);
+        } finally {
+            taskEvents.record(TaskEventType.COMPLEX_COMPLETED, taskId, elapsedMillis(startNanos));
+        }
+    }
 
-        return CompletableFuture.completedFuture(finalResult);
+    /**
+     * 구조적 동시성 - 세 개의 블로킹 작업을 형제 서브태스크로 동시에 실행
+     * <p>
+     * 실패(FAIL_FAST) 또는 데드라인 초과 시 남은 서브태스크를 인터럽트하며,
+     * scope 종료 시점에는 모든 서브태스크 스레드가 끝나 있음이 보장된다.
+     */
+    public StructuredTaskResult complexStructuredOperation(int taskId, FanOutPolicy policy, Duration deadline) {
+        // 서브태스크는 fork 시점의 컨텍스트(작업 ID 포함)를 상속
+        return RequestContexts.callForTask(taskId, () -> runStructuredOperation(taskId, policy, deadline));
     }
 
-    private String simulateDatabaseQuery(int taskId) {
-        try {
-            log.info("DB 쿼리 지연 시뮬레이션 {}", taskId);
-            Thread.sleep(1000); // DB 쿼리 지연 시뮬레이션
-            return "DB-Query-Success";
+    private StructuredTaskResult runStructuredOperation(int taskId, FanOutPolicy policy, Duration deadline) {
+        log.info("[구조적 작업 {}] 시작 - 정책: {}, 데드라인: {}ms", taskId, policy, deadline.toMillis());
+
+        long startNanos = System.nanoTime();
+        // 요청 헤더(X-Request-Timeout-Ms)로 더 이른 데드라인이 주어졌으면 그것을 따름
+        Instant deadlineAt = RequestContexts.current().earliestDeadline(Instant.now().plus(deadline));
+
+        try (TaskRegistry.Registration ignored = taskRegistry.register(taskId, TaskKind.STRUCTURED);
+             StructuredTaskScope<Object> scope = policy == FanOutPolicy.FAIL_FAST
+                ? new StructuredTaskScope.ShutdownOnFailure()
+                : new StructuredTaskScope<>()) {
+
+            Map<String, Subtask<String>> subtasks = new LinkedHashMap<>();
+            subtasks.put("db", scope.fork(() -> simulateDatabaseQuery(taskId)));
+            subtasks.put("api", scope.fork(() -> simulateExternalApiCall(taskId)));
+            subtasks.put("file", scope.fork(() -> simulateFileOperation(taskId)));
+
+            boolean deadlineExceeded = false;
+            try {
+                scope.joinUntil(deadlineAt);
+            } catch (TimeoutException e) {
+                // 남은 서브태스크를 인터럽트한 뒤 결과를 확정하기 위해 다시 join
+                deadlineExceeded = true;
+                scope.shutdown();
+                scope.join();
+            }
+
+            Map<String, String> results = new LinkedHashMap<>();
+            List<String> failures = new ArrayList<>();
+            subtasks.forEach((stage, subtask) -> {
+                switch (subtask.state()) {
+                    case SUCCESS -> results.put(stage, subtask.get());
+                    case FAILED -> {
+                        results.put(stage, "FAILED");
+                        failures.add(stage + ": " + subtask.exception());
+                    }
+                    case UNAVAILABLE -> results.put(stage, "CANCELLED");
+                }
+            });
+
+            long elapsedMillis = Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+            log.info("[구조적 작업 {}] 종료 - 결과: {}, 데드라인 초과: {} (소요시간: {}ms)",
+                    taskId, results, deadlineExceeded, elapsedMillis);
+
+            return new StructuredTaskResult(taskId, policy, results, failures, deadlineExceeded, elapsedMillis);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            return "DB-Query-Error";
+            throw new RuntimeException("작업 중단됨", e);
         }
     }
 
-    private String simulateExternalApiCall(int taskId) {
+    /**
+     * 순차 실행 시 단계별 실패를 오류 결과로 변환하고 실패한 단계를 기록
+     * <p>
+     * 인터럽트 외에 벌크헤드 거절, 배치 대기 시간 초과(IllegalStateException), real-io 백엔드의
+     * I/O 오류(UncheckedIOException 등)도 해당 단계만 실패로 처리하여 부분 결과(DEGRADED)로 응답한다.
+     */
+    private String runStage(String name, BlockingStage stage, String errorResult, List<String> failedStages) {
         try {
-            log.info("외부 API 호출 지연 시뮬레이션{}", taskId);
-            Thread.sleep(2000); // 외부 API 호출 지연 시뮬레이션
-            return "API-Call-Success";
+            return stage.call();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            return "API-Call-Error";
+            failedStages.add(name);
+            return errorResult;
+        } catch (BulkheadFullException e) {
+            // 포화된 다운스트림은 기다리지 않고 해당 단계만 실패 처리
+            log.warn(e.getMessage());
+            failedStages.add(name);
+            return errorResult;
+        } catch (RuntimeException e) {
+            log.warn("[복잡한 작업] {} 단계 실패 - {}", name, e.toString());
+            failedStages.add(name);
+            return errorResult;
         }
     }
 
-    private String simulateFileOperation(int taskId) {
-        try {
-            log.info("파일 작업 지연 시뮬레이션 {}", taskId);
-            Thread.sleep(500); // 파일 작업 지연 시뮬레이션
+    private String simulateDatabaseQuery(int taskId) throws InterruptedException {
+        return bulkheads.execute("db", () -> taskMetrics.recordStage("db", () -> {
+            taskEvents.record(TaskEventType.DB_QUERY, taskId);
+            return databaseQueryBatcher.query(taskId);
+        }));
+    }
+
+    private String simulateExternalApiCall(int taskId) throws InterruptedException {
+        return bulkheads.execute("api", () -> taskMetrics.recordStage("api", () -> {
+            taskEvents.record(TaskEventType.API_CALL, taskId);
+            return externalApiClient.call(taskId);
+        }));
+    }
+
+    private String simulateFileOperation(int taskId) throws InterruptedException {
+        return bulkheads.execute("file", () -> taskMetrics.recordStage("file", () -> {
+            taskEvents.record(TaskEventType.FILE_OPERATION, taskId);
+            stageBackend.fileOperation(taskId);
             return "File-Op-Success";
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return "File-Op-Error";
-        }
+        }));
+    }
+
+    /**
+     * 결과 문자열용 스레드 표시 - Thread.toString()(carrier 이름까지 포맷)과 String.format 대신 고정 문자열과 ID만 사용
+     */
+    private static String currentThreadLabel() {
+        Thread thread = Thread.currentThread();
+        return (thread.isVirtual() ? "가상 스레드 #" : "플랫폼 스레드 #") + thread.threadId();
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    @FunctionalInterface
+    private interface BlockingStage {
+        String call() throws InterruptedException;
     }
 }
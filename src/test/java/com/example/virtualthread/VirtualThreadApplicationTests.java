@@ -1,12 +1,28 @@
 package com.example.virtualthread;
 
+import com.example.virtualthread.config.BackendProperties;
+import com.example.virtualthread.config.DatabaseBatchProperties;
+import com.example.virtualthread.config.ExternalApiProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -19,6 +35,18 @@ class VirtualThreadApplicationTests {
     @Autowired
     private TestRestTemplate restTemplate;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DatabaseBatchProperties databaseBatchProperties;
+
+    @Autowired
+    private ExternalApiProperties externalApiProperties;
+
+    @Autowired
+    private BackendProperties backendProperties;
+
     @Test
     void syncEndpointShouldWork() {
         String url = "http://localhost:" + port + "/api/v1/tasks/sync?delay=100";
@@ -49,6 +77,52 @@ class VirtualThreadApplicationTests {
         assertThat(response.get("totalTasks")).isEqualTo(5);
     }
 
+    @Test
+    void parallelStreamEndpointShouldEmitResultsThenSummary() {
+        String url = "http://localhost:" + port + "/api/v1/tasks/parallel/stream?count=5&delay=10";
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_NDJSON));
+        var response = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<String> lines = response.getBody().lines().toList();
+        assertThat(lines).hasSize(6);
+        assertThat(lines.subList(0, 5)).allMatch(line -> line.contains("\"type\":\"result\""));
+        assertThat(lines.get(5)).contains("\"type\":\"summary\"").contains("\"completed\":5");
+    }
+
+    @Test
+    void parallelStreamTasksShouldBeScheduledByFairDispatcher() {
+        String url = "http://localhost:" + port + "/api/v1/tasks/parallel/stream?count=5&delay=10";
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_NDJSON));
+        headers.set("X-Client-Id", "stream-client");
+        var response = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(meterRegistry.get("tasks.dispatch.client.served")
+                .tag("client", "stream-client").tag("priority", "interactive")
+                .counter().count()).isEqualTo(5);
+    }
+
+    @Test
+    void parallelEndpointShouldRejectExcessiveFanOut() {
+        String url = "http://localhost:" + port + "/api/v1/tasks/parallel?count=5000000&delay=10";
+        var response = restTemplate.getForEntity(url, Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().get("reason")).isEqualTo("FAN_OUT_LIMIT");
+        assertThat(response.getHeaders().containsKey(HttpHeaders.RETRY_AFTER)).isFalse();
+    }
+
+    @Test
+    void parallelEndpointShouldRejectNegativeCountAsBadRequest() {
+        String url = "http://localhost:" + port + "/api/v1/tasks/parallel?count=-1&delay=10";
+        var response = restTemplate.getForEntity(url, Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
     @Test
     void virtualThreadsEndpointShouldWork() {
         String url = "http://localhost:" + port + "/api/v1/tasks/virtual-threads?count=10&delay=100";
@@ -61,13 +135,69 @@ class VirtualThreadApplicationTests {
 
     @Test
     void complexEndpointShouldWork() {
-        String url = "http://localhost:" + port + "/api/v1/tasks/complex";
-        var response = restTemplate.getForObject(url, Map.class);
+        String url = "http://localhost:" + port + "/api/v1/tasks/complex?taskId=7";
+        var response = restTemplate.getForEntity(url, String.class);
 
-        assertThat(response).isNotNull();
-        assertThat(response.get("done")).isEqualTo(false);
-        assertThat(response.get("cancelled")).isEqualTo(false);
-        assertThat(response.get("completedExceptionally")).isEqualTo(false);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(
+                "작업 7 결과: DB-Query-Success | API-Call-Success | File-Op-Success");
+    }
+
+    @Test
+    void complexEndpointShouldCoalesceConcurrentRequestsForSameTask() throws Exception {
+        int requests = 8;
+        String url = "http://localhost:" + port + "/api/v1/tasks/complex?taskId=4242";
+        double missesBefore = complexCacheRequests("miss");
+        double coalescedBefore = complexCacheRequests("coalesced");
+
+        // 모든 요청이 래치에서 함께 출발하여 첫 실행(수백 ms)이 끝나기 전에 도착
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<HttpStatusCode>> responses = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                responses.add(executor.submit(() -> {
+                    start.await();
+                    return restTemplate.getForEntity(url, String.class).getStatusCode();
+                }));
+            }
+            start.countDown();
+            for (Future<HttpStatusCode> response : responses) {
+                assertThat(response.get()).isEqualTo(HttpStatus.OK);
+            }
+        }
+
+        assertThat(complexCacheRequests("miss") - missesBefore).isEqualTo(1);
+        assertThat(complexCacheRequests("coalesced") - coalescedBefore).isEqualTo(requests - 1);
+    }
+
+    @Test
+    void structuredComplexEndpointShouldRunStagesConcurrently() {
+        String url = "http://localhost:" + port + "/api/v1/tasks/complex/structured?policy=COLLECT_ALL&deadlineMs=5000";
+        var response = restTemplate.getForEntity(url, Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().get("deadlineExceeded")).isEqualTo(false);
+        assertThat(response.getBody().get("results")).isEqualTo(Map.of(
+                "db", "DB-Query-Success",
+                "api", "API-Call-Success",
+                "file", "File-Op-Success"));
+
+        // 순차 실행이었다면 세 단계 지연의 합(db 1s + api 2s + file 0.5s) 이상 걸림
+        long sequentialMillis = databaseBatchProperties.baseLatency().toMillis()
+                + externalApiProperties.latency().base().toMillis()
+                + backendProperties.fileLatency().toMillis();
+        long elapsedMillis = Long.parseLong(response.getBody().get("totalTime").toString().replace("ms", ""));
+        assertThat(elapsedMillis).isLessThan(sequentialMillis);
+    }
+
+    @Test
+    void structuredComplexEndpointShouldCancelOnDeadline() {
+        String url = "http://localhost:" + port + "/api/v1/tasks/complex/structured?policy=FAIL_FAST&deadlineMs=100";
+        var response = restTemplate.getForEntity(url, Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+        assertThat(response.getBody().get("deadlineExceeded")).isEqualTo(true);
+        assertThat(response.getBody().get("results").toString()).contains("CANCELLED");
     }
 
     @Test
@@ -79,6 +209,16 @@ class VirtualThreadApplicationTests {
         assertThat(response.get("isVirtual")).isEqualTo(true);
     }
 
+    @Test
+    void threadsEndpointShouldFilterRunningTasks() {
+        String url = "http://localhost:" + port + "/api/v1/tasks/threads?kind=SYNC&minRunningMs=600000&size=10";
+        var response = restTemplate.getForObject(url, Map.class);
+
+        assertThat(response).isNotNull();
+        assertThat(response.get("matchedTaskCount")).isEqualTo(0);
+        assertThat(response.get("size")).isEqualTo(10);
+    }
+
     @Test
     void benchmarkEndpointShouldWork() {
         String url = "http://localhost:" + port + "/api/v1/tasks/benchmark?taskCount=5&delay=10";
@@ -91,6 +231,95 @@ class VirtualThreadApplicationTests {
         assertThat(response.get("testConfig")).isNotNull();
     }
 
+    @Test
+    void prometheusEndpointShouldExposeTaskTimers() {
+        restTemplate.getForObject("http://localhost:" + port + "/api/v1/tasks/sync?delay=10", String.class);
+
+        String metrics = restTemplate.getForObject("http://localhost:" + port + "/actuator/prometheus", String.class);
+
+        assertThat(metrics).contains("tasks_execution_seconds_bucket");
+        assertThat(metrics).contains("endpoint=\"/api/v1/tasks/sync\"");
+    }
+
+    @Test
+    void executorsEndpointShouldReportStrategies() {
+        String url = "http://localhost:" + port + "/actuator/executors";
+        var response = restTemplate.getForObject(url, Map.class);
+
+        assertThat(response).isNotNull();
+        assertThat(response.get("scheduler").toString()).contains("jdk.virtualThreadScheduler.parallelism=100");
+        assertThat(response.get("executors").toString()).contains("name=tomcat", "strategy=VIRTUAL_PER_TASK");
+    }
+
+    @Test
+    void jfrEndpointShouldDumpAndServeContinuousRecording() {
+        String url = "http://localhost:" + port + "/actuator/jfr";
+        var dump = restTemplate.postForEntity(url, null, Map.class);
+
+        assertThat(dump.getStatusCode()).isEqualTo(HttpStatus.OK);
+        String name = (String) dump.getBody().get("name");
+        assertThat(restTemplate.getForObject(url, Map.class).get("dumps").toString()).contains(name);
+
+        var download = restTemplate.getForEntity(url + "/" + name, byte[].class);
+        assertThat(download.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(download.getBody()).isNotEmpty();
+        assertThat(restTemplate.getForEntity(url + "/application.yml", byte[].class).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void fileIoBenchmarkShouldReportEveryStrategy() {
+        String url = "http://localhost:" + port + "/api/v1/tasks/file-io/benchmark?operations=20&concurrency=10";
+        var response = restTemplate.getForObject(url, List.class);
+
+        assertThat(response).hasSize(4);
+        assertThat(response.toString()).contains("strategy=STREAM", "strategy=CHANNEL", "strategy=MAPPED", "strategy=OFFLOAD");
+    }
+
+    @Test
+    void fileIoBenchmarkShouldRejectUnboundedParametersAsBadRequest() {
+        String url = "http://localhost:" + port + "/api/v1/tasks/file-io/benchmark";
+
+        assertThat(restTemplate.getForEntity(url + "?operations=100000000", Map.class).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(restTemplate.getForEntity(url + "?operations=20&concurrency=1000000", Map.class).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void requestIdShouldBeEchoedInResponse() {
+        String url = "http://localhost:" + port + "/api/v1/tasks/sync?delay=10";
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Request-Id", "test-request-1");
+
+        var response = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst("X-Request-Id")).isEqualTo("test-request-1");
+    }
+
+    @Test
+    void benchmarkJobShouldCompleteAndBeComparable() throws InterruptedException {
+        String base = "http://localhost:" + port + "/api/v1/benchmarks";
+        var submitted = restTemplate.postForEntity(base, Map.of("taskCount", 5, "delay", 10), Map.class);
+
+        assertThat(submitted.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        String jobId = (String) submitted.getBody().get("jobId");
+
+        Map<?, ?> status = submitted.getBody();
+        for (int i = 0; i < 100 && !List.of("COMPLETED", "FAILED").contains(status.get("state")); i++) {
+            Thread.sleep(100);
+            status = restTemplate.getForObject(base + "/" + jobId, Map.class);
+        }
+        assertThat(status.get("state")).isEqualTo("COMPLETED");
+        assertThat(status.get("completed")).isEqualTo(10);
+
+        var comparison = restTemplate.getForObject(
+                base + "/compare?baseline=" + jobId + "&candidate=" + jobId, Map.class);
+        assertThat(comparison.get("regression")).isEqualTo(false);
+        assertThat(restTemplate.getForObject(base + "/runs", String.class)).contains(jobId);
+    }
+
     @Test
     void healthEndpointShouldReturnUp() {
         String url = "http://localhost:" + port + "/api/v1/tasks/health";
@@ -101,4 +330,7 @@ class VirtualThreadApplicationTests {
         assertThat(response.get("virtualThreadsSupported")).isEqualTo(true);
     }
 
+    private double complexCacheRequests(String result) {
+        return meterRegistry.get("complex.cache.requests").tag("result", result).counter().count();
+    }
 }
@@ -0,0 +1,53 @@
+package com.example.virtualthread.backend;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "virtual-thread.backend.mode=real-io")
+class RealIoStageBackendTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private StageBackend stageBackend;
+
+    @Test
+    void realIoBackendShouldBeSelected() {
+        assertThat(stageBackend).isInstanceOf(RealIoStageBackend.class);
+    }
+
+    @Test
+    void structuredComplexEndpointShouldSucceedOverRealIo() {
+        String url = "http://localhost:" + port + "/api/v1/tasks/complex/structured?policy=COLLECT_ALL&deadlineMs=5000";
+        var response = restTemplate.getForEntity(url, Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().get("results")).isEqualTo(Map.of(
+                "db", "DB-Query-Success",
+                "api", "API-Call-Success",
+                "file", "File-Op-Success"));
+    }
+
+    @Test
+    void benchmarkEndpointShouldReportRealIoBackend() {
+        String url = "http://localhost:" + port + "/api/v1/tasks/benchmark?taskCount=5&delay=10";
+        var response = restTemplate.getForObject(url, Map.class);
+
+        assertThat(response).isNotNull();
+        assertThat(((Map<?, ?>) response.get("testConfig")).get("backend")).isEqualTo("real-io");
+    }
+}
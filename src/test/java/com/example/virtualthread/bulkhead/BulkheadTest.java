@@ -0,0 +1,158 @@
+package com.example.virtualthread.bulkhead;
+
+import com.example.virtualthread.config.BulkheadProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkheadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void fullBulkheadShouldRejectImmediatelyWithoutMaxWait() throws Exception {
+        Bulkhead bulkhead = bulkhead(1, Duration.ZERO, BulkheadProperties.Adaptive.NONE, 1, 1, Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = holdSlot(bulkhead, release);
+
+        assertThatThrownBy(() -> bulkhead.execute(() -> "never"))
+                .isInstanceOf(BulkheadFullException.class);
+
+        release.countDown();
+        holder.join();
+        assertThat(meterRegistry.get("bulkhead.rejected").counter().count()).isEqualTo(1);
+        assertThat(waits("rejected")).isEqualTo(1);
+        assertThat(waits("acquired")).isEqualTo(1);
+    }
+
+    @Test
+    void waiterShouldBeRejectedAfterMaxWait() throws Exception {
+        Bulkhead bulkhead = bulkhead(1, Duration.ofMillis(100), BulkheadProperties.Adaptive.NONE, 1, 1, Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = holdSlot(bulkhead, release);
+
+        long startNanos = System.nanoTime();
+        assertThatThrownBy(() -> bulkhead.execute(() -> "never"))
+                .isInstanceOf(BulkheadFullException.class);
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        release.countDown();
+        holder.join();
+        assertThat(waitedMillis).isGreaterThanOrEqualTo(100);
+        assertThat(bulkhead.waiting()).isZero();
+        assertThat(meterRegistry.get("bulkhead.wait").tag("outcome", "rejected").timer()
+                .totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(100);
+    }
+
+    @Test
+    void waiterShouldGetSlotReleasedWithinMaxWait() throws Exception {
+        Bulkhead bulkhead = bulkhead(1, Duration.ofSeconds(5), BulkheadProperties.Adaptive.NONE, 1, 1, Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = holdSlot(bulkhead, release);
+
+        Thread.ofVirtual().start(() -> {
+            sleep(50);
+            release.countDown();
+        });
+
+        assertThat(bulkhead.execute(() -> "ok")).isEqualTo("ok");
+        holder.join();
+        assertThat(waits("acquired")).isEqualTo(2);
+        assertThat(waits("rejected")).isZero();
+    }
+
+    @Test
+    void burstOfSlowCallsShouldBackOffOnlyOnce() throws Exception {
+        Bulkhead bulkhead = bulkhead(8, Duration.ZERO, BulkheadProperties.Adaptive.AIMD, 1, 8, Duration.ofMillis(20));
+
+        // 같은 혼잡 구간에 시작한 느린 호출 4개 - 한도는 8 * 0.5 = 4로 한 번만 줄어야 함
+        List<Thread> slowCalls = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            slowCalls.add(Thread.ofVirtual().start(() -> execute(bulkhead, 50)));
+        }
+        for (Thread slowCall : slowCalls) {
+            slowCall.join();
+        }
+        assertThat(bulkhead.limit()).isEqualTo(4);
+
+        // 감소 이후에 시작한 느린 호출은 새 혼잡 신호
+        execute(bulkhead, 50);
+        assertThat(bulkhead.limit()).isEqualTo(2);
+    }
+
+    @Test
+    void fastCallsAtLimitShouldIncreaseLimitByOne() throws Exception {
+        Bulkhead bulkhead = bulkhead(2, Duration.ZERO, BulkheadProperties.Adaptive.AIMD, 1, 3, Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        Thread first = holdSlot(bulkhead, release);
+        Thread second = holdSlot(bulkhead, release);
+
+        release.countDown();
+        first.join();
+        second.join();
+
+        // 포화 상태에서 끝난 첫 호출만 한도를 늘림, maxLimit을 넘지 않음
+        assertThat(bulkhead.limit()).isEqualTo(3);
+
+        // 포화되지 않은 상태의 빠른 호출은 한도를 늘리지 않음
+        bulkhead.execute(() -> "ok");
+        assertThat(bulkhead.limit()).isEqualTo(3);
+    }
+
+    private Bulkhead bulkhead(int maxConcurrent, Duration maxWait, BulkheadProperties.Adaptive adaptive,
+                              int minLimit, int maxLimit, Duration latencyThreshold) {
+        BulkheadProperties.Spec spec = new BulkheadProperties.Spec(maxConcurrent, maxWait, adaptive,
+                minLimit, maxLimit, latencyThreshold, 0.5);
+        return new Bulkhead("test", spec, meterRegistry);
+    }
+
+    /**
+     * 슬롯을 얻은 뒤 release가 열릴 때까지 쥐고 있는 가상 스레드 - 슬롯을 얻은 뒤에 반환
+     */
+    private Thread holdSlot(Bulkhead bulkhead, CountDownLatch release) throws InterruptedException {
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread holder = Thread.ofVirtual().start(() -> {
+            try {
+                bulkhead.execute(() -> {
+                    acquired.countDown();
+                    return release.await(5, TimeUnit.SECONDS);
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(acquired.await(5, TimeUnit.SECONDS)).isTrue();
+        return holder;
+    }
+
+    private static void execute(Bulkhead bulkhead, long latencyMillis) {
+        try {
+            bulkhead.execute(() -> {
+                sleep(latencyMillis);
+                return null;
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private long waits(String outcome) {
+        return meterRegistry.get("bulkhead.wait").tag("outcome", outcome).timer().count();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.virtualthread.context;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestContextsTest {
+
+    private static final RequestContext CONTEXT = new RequestContext("req-1", "/api/v1/tasks/sync", 7, null);
+
+    @AfterEach
+    void resetMode() {
+        RequestContexts.setMode(RequestContexts.Mode.SCOPED_VALUE);
+    }
+
+    @ParameterizedTest
+    @EnumSource(RequestContexts.Mode.class)
+    void bindingShouldBeVisibleOnlyInsideCall(RequestContexts.Mode mode) {
+        RequestContexts.setMode(mode);
+
+        RequestContext inside = RequestContexts.callWith(CONTEXT, RequestContexts::current);
+
+        assertThat(inside).isEqualTo(CONTEXT);
+        assertThat(RequestContexts.current()).isSameAs(RequestContext.EMPTY);
+    }
+
+    @ParameterizedTest
+    @EnumSource(RequestContexts.Mode.class)
+    void structuredSubtasksShouldInheritContext(RequestContexts.Mode mode) throws Exception {
+        RequestContexts.setMode(mode);
+
+        RequestContext forked = RequestContexts.callWith(CONTEXT, () -> {
+            try (var scope = new StructuredTaskScope.ShutdownOnFailure()) {
+                var subtask = scope.fork(RequestContexts::current);
+                scope.join().throwIfFailed();
+                return subtask.get();
+            }
+        });
+
+        assertThat(forked).isEqualTo(CONTEXT);
+    }
+
+    @ParameterizedTest
+    @EnumSource(RequestContexts.Mode.class)
+    void wrappedRunnableShouldCarryContextToPlainThread(RequestContexts.Mode mode) throws Exception {
+        RequestContexts.setMode(mode);
+        AtomicReference<RequestContext> seen = new AtomicReference<>();
+
+        Runnable task = RequestContexts.callWith(CONTEXT,
+                () -> RequestContexts.wrap(() -> seen.set(RequestContexts.current())));
+        Thread.ofVirtual().start(task).join();
+
+        assertThat(seen.get()).isEqualTo(CONTEXT);
+    }
+}
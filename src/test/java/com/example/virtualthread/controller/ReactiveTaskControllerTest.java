@@ -0,0 +1,57 @@
+package com.example.virtualthread.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+class ReactiveTaskControllerTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    void reactiveProfileShouldRunOnNetty() {
+        assertThat(applicationContext).isInstanceOf(ReactiveWebServerApplicationContext.class);
+        assertThat(((ReactiveWebServerApplicationContext) applicationContext).getWebServer())
+                .isInstanceOf(NettyWebServer.class);
+    }
+
+    @Test
+    void parallelEndpointShouldKeepServletContract() {
+        String url = "http://localhost:" + port + "/api/v1/tasks/parallel?count=5&delay=50";
+        var response = restTemplate.getForEntity(url, Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().get("totalTasks")).isEqualTo(5);
+        assertThat((List<?>) response.getBody().get("results")).hasSize(5);
+    }
+
+    @Test
+    void benchmarkEndpointShouldReportReactiveBackend() {
+        String url = "http://localhost:" + port + "/api/v1/tasks/benchmark?taskCount=5&delay=10";
+        var response = restTemplate.getForObject(url, Map.class);
+
+        assertThat(response).isNotNull();
+        assertThat(((Map<?, ?>) response.get("testConfig")).get("backend")).isEqualTo("reactive");
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.virtualthread.dispatch;
+
+import com.example.virtualthread.config.FairDispatchProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FairTaskDispatcherTest {
+
+    private static final Executor VIRTUAL = runnable -> Thread.ofVirtual().start(runnable);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private FairTaskDispatcher dispatcher;
+
+    @BeforeEach
+    void startDispatcher() {
+        // 예산 1 - 작업이 한 번에 하나씩만 배정되어 배정 순서가 곧 실행 순서
+        dispatcher = new FairTaskDispatcher(
+                new FairDispatchProperties(true, 1, 8, 1, 100, Map.of(), 100), meterRegistry);
+        dispatcher.start();
+    }
+
+    @AfterEach
+    void stopDispatcher() {
+        dispatcher.stop();
+    }
+
+    @Test
+    void interactiveFlowShouldNotWaitBehindBatchBacklog() throws Exception {
+        FairTaskDispatcher.FlowKey batch = new FairTaskDispatcher.FlowKey("bulk-client", PriorityClass.BATCH);
+        FairTaskDispatcher.FlowKey interactive = new FairTaskDispatcher.FlowKey("ui-client", PriorityClass.INTERACTIVE);
+        ConcurrentLinkedQueue<String> order = new ConcurrentLinkedQueue<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 첫 배치 작업이 예산을 점유한 동안 양쪽 큐를 채움
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        futures.add(dispatcher.submit(batch, VIRTUAL, () -> {
+            started.countDown();
+            release.await();
+            return "b0";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        for (int i = 1; i <= 9; i++) {
+            String name = "b" + i;
+            futures.add(dispatcher.submit(batch, VIRTUAL, () -> record(order, name)));
+        }
+        for (int i = 1; i <= 3; i++) {
+            String name = "i" + i;
+            futures.add(dispatcher.submit(interactive, VIRTUAL, () -> record(order, name)));
+        }
+        release.countDown();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+
+        // 배치 플로가 한 라운드에 하나를 꺼내는 동안 interactive 플로는 대기 작업을 모두 꺼냄
+        assertThat(order).hasSize(12);
+        assertThat(order.stream().limit(4)).contains("i1", "i2", "i3");
+        assertThat(meterRegistry.get("tasks.dispatch.client.served")
+                .tag("client", "ui-client").tag("priority", "interactive")
+                .counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void interactiveWaitShouldStayBoundedWhileLargeBatchIsQueued() throws Exception {
+        // 예산 10인 디스패처로 교체 - 게이지가 새 디스패처를 가리키도록 레지스트리도 새로 만듦
+        SimpleMeterRegistry budgetRegistry = new SimpleMeterRegistry();
+        dispatcher.stop();
+        dispatcher = new FairTaskDispatcher(
+                new FairDispatchProperties(true, 10, 8, 1, 100, Map.of(), 100), budgetRegistry);
+        dispatcher.start();
+        FairTaskDispatcher.FlowKey batch = new FairTaskDispatcher.FlowKey("bulk-client", PriorityClass.BATCH);
+        FairTaskDispatcher.FlowKey interactive = new FairTaskDispatcher.FlowKey("ui-client", PriorityClass.INTERACTIVE);
+
+        // 배치 10,000건을 모두 처리하려면 예산 10으로 약 5초가 걸림
+        for (int i = 0; i < 10_000; i++) {
+            dispatcher.submit(batch, VIRTUAL, () -> {
+                Thread.sleep(5);
+                return null;
+            });
+        }
+
+        long startNanos = System.nanoTime();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            int value = i;
+            futures.add(dispatcher.submit(interactive, VIRTUAL, () -> value));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        assertThat(elapsedMillis).isLessThan(500);
+        assertThat(budgetRegistry.get("tasks.dispatch.queued").gauge().value()).isGreaterThan(5_000);
+        assertThat(budgetRegistry.get("tasks.dispatch.queue.wait").tag("priority", "interactive").timer()
+                .max(TimeUnit.MILLISECONDS)).isLessThan(500);
+    }
+
+    @Test
+    void submitAfterStopShouldBeRejected() {
+        FairTaskDispatcher.FlowKey flow = new FairTaskDispatcher.FlowKey("client", PriorityClass.INTERACTIVE);
+        dispatcher.stop();
+
+        CompletableFuture<String> result = dispatcher.submit(flow, VIRTUAL, () -> "never");
+
+        assertThatThrownBy(() -> result.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void priorityShouldFollowHeaderThenFanOutSize() {
+        assertThat(PriorityClass.resolve("batch", 1, 100)).isEqualTo(PriorityClass.BATCH);
+        assertThat(PriorityClass.resolve(null, 100, 100)).isEqualTo(PriorityClass.INTERACTIVE);
+        assertThat(PriorityClass.resolve("unknown", 101, 100)).isEqualTo(PriorityClass.BATCH);
+    }
+
+    private static String record(ConcurrentLinkedQueue<String> order, String name) {
+        order.add(name);
+        return name;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.virtualthread.eventlog;
+
+import com.example.virtualthread.config.TaskEventLogProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskEventLogTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void fullBufferShouldDropAndCountInsteadOfBlocking() throws Exception {
+        TaskEventLog eventLog = eventLog(4, -1, Map.of());
+
+        // 기록 스레드를 시작하기 전이라 버퍼 4칸만 채워지고 나머지는 버려짐
+        for (int i = 0; i < 10; i++) {
+            eventLog.record(TaskEventType.SYNC_STARTED, i, 100);
+        }
+        assertThat(meterRegistry.get("task.events.dropped").tag("site", "sync-started").counter().count())
+                .isEqualTo(6);
+
+        eventLog.start();
+        eventLog.stop();
+
+        List<String> lines = Files.readAllLines(eventLog.file());
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(0)).endsWith("[- task=0] [동기 작업] 시작 delayMs=100");
+        assertThat(meterRegistry.get("task.events.written").counter().count()).isEqualTo(4);
+    }
+
+    @Test
+    void callSiteRateLimitShouldSampleOutExcessEvents() throws Exception {
+        TaskEventLog eventLog = eventLog(1024, -1, Map.of(TaskEventType.DB_QUERY, 3, TaskEventType.API_CALL, 0));
+        eventLog.start();
+
+        for (int i = 0; i < 100; i++) {
+            eventLog.record(TaskEventType.DB_QUERY, i);
+            eventLog.record(TaskEventType.API_CALL, i);
+            eventLog.record(TaskEventType.FILE_OPERATION, i);
+        }
+        eventLog.stop();
+
+        // 초 경계를 한 번 넘더라도 db-query는 두 윈도 분량(6건)을 넘지 않음
+        double dbSampled = meterRegistry.get("task.events.sampled").tag("site", "db-query").counter().count();
+        assertThat(dbSampled).isGreaterThanOrEqualTo(94);
+        assertThat(meterRegistry.get("task.events.sampled").tag("site", "api-call").counter().count())
+                .isEqualTo(100);
+        assertThat(meterRegistry.get("task.events.sampled").tag("site", "file-operation").counter().count())
+                .isZero();
+
+        List<String> lines = Files.readAllLines(eventLog.file());
+        assertThat(lines).hasSize((int) (100 - dbSampled) + 100);
+        assertThat(lines).noneMatch(line -> line.contains("외부 API"));
+    }
+
+    private TaskEventLog eventLog(int bufferSize, int defaultRate, Map<TaskEventType, Integer> rates) {
+        return new TaskEventLog(new TaskEventLogProperties(true, directory.resolve("task-events.log").toString(),
+                bufferSize, 64, Duration.ofMillis(1), defaultRate, rates), meterRegistry);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.virtualthread.job;
+
+import com.example.virtualthread.backend.StageBackend;
+import com.example.virtualthread.config.BenchmarkJobProperties;
+import com.example.virtualthread.config.ExecutorProperties;
+import com.example.virtualthread.service.TaskService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class BenchmarkJobServiceTest {
+
+    @TempDir
+    private Path directory;
+
+    private BenchmarkRunStore store;
+    private BenchmarkJobService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        BenchmarkJobProperties properties = new BenchmarkJobProperties(directory.resolve("runs.jsonl"), 100, 10);
+        store = new BenchmarkRunStore(properties, new ObjectMapper().findAndRegisterModules());
+        store.load();
+        service = new BenchmarkJobService(mock(TaskService.class), store, properties,
+                mock(ExecutorProperties.class), mock(StageBackend.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void slowerCandidateShouldBeFlaggedAsRegression() {
+        store.append(run("baseline", 1000, 10, 30));
+        store.append(run("candidate", 800, 10, 30));
+
+        RunComparison comparison = service.compare("baseline", "candidate", null).orElseThrow();
+
+        assertThat(comparison.regression()).isTrue();
+        assertThat(metric(comparison, "concurrent.throughputPerSecond").changePercent()).isEqualTo(-20.0);
+        assertThat(metric(comparison, "concurrent.throughputPerSecond").regression()).isTrue();
+        assertThat(metric(comparison, "concurrent.p99Millis").regression()).isFalse();
+    }
+
+    @Test
+    void fasterCandidateShouldNotBeFlaggedAsRegression() {
+        store.append(run("baseline", 1000, 10, 30));
+        store.append(run("candidate", 1500, 5, 15));
+
+        RunComparison comparison = service.compare("baseline", "candidate", null).orElseThrow();
+
+        assertThat(comparison.regression()).isFalse();
+        assertThat(metric(comparison, "concurrent.p50Millis").changePercent()).isEqualTo(-50.0);
+
+        // 방향을 바꾸면 지연 증가와 처리량 감소가 모두 회귀
+        RunComparison reversed = service.compare("candidate", "baseline", null).orElseThrow();
+        assertThat(reversed.regression()).isTrue();
+        assertThat(reversed.metrics()).filteredOn(RunComparison.MetricDiff::regression).hasSize(3);
+    }
+
+    @Test
+    void changeWithinThresholdShouldNotBeRegression() {
+        store.append(run("baseline", 1000, 10, 30));
+        store.append(run("candidate", 950, 10.5, 31));
+
+        assertThat(service.compare("baseline", "candidate", null).orElseThrow().regression()).isFalse();
+        assertThat(service.compare("baseline", "candidate", 1.0).orElseThrow().regression()).isTrue();
+    }
+
+    @Test
+    void zeroBaselineShouldStillReportChange() {
+        store.append(run("baseline", 1000, 0, 0));
+        store.append(run("candidate", 1000, 0, 12));
+
+        RunComparison comparison = service.compare("baseline", "candidate", null).orElseThrow();
+
+        assertThat(metric(comparison, "concurrent.p50Millis").changePercent()).isEqualTo(0.0);
+        assertThat(metric(comparison, "concurrent.p50Millis").regression()).isFalse();
+        assertThat(metric(comparison, "concurrent.p99Millis").changePercent()).isNull();
+        assertThat(metric(comparison, "concurrent.p99Millis").regression()).isTrue();
+        assertThat(comparison.regression()).isTrue();
+    }
+
+    @Test
+    void unknownRunShouldNotBeComparable() {
+        store.append(run("baseline", 1000, 10, 30));
+
+        assertThat(service.compare("baseline", "missing", null)).isEmpty();
+    }
+
+    private static BenchmarkRun run(String id, double throughputPerSecond, double p50Millis, double p99Millis) {
+        PhaseResult phase = new PhaseResult(100, 1000, throughputPerSecond, p50Millis, p50Millis, p99Millis, p99Millis);
+        Instant startedAt = Instant.parse("2026-01-01T00:00:00Z");
+        return new BenchmarkRun(id, id, new BenchmarkConfig(100, 10, 10, id), startedAt,
+                startedAt.plusSeconds(1), Map.of("concurrent", phase), Map.of());
+    }
+
+    private static RunComparison.MetricDiff metric(RunComparison comparison, String name) {
+        return comparison.metrics().stream()
+                .filter(diff -> diff.metric().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+}
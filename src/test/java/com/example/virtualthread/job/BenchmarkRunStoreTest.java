@@ -0,0 +1,64 @@
+package com.example.virtualthread.job;
+
+import com.example.virtualthread.config.BenchmarkJobProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BenchmarkRunStoreTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void restartedStoreShouldReloadAppendedRuns() throws Exception {
+        Path file = directory.resolve("runs/benchmark-runs.jsonl");
+        BenchmarkRunStore store = store(file);
+        store.append(run("run-1", 100));
+        store.append(run("run-2", 200));
+
+        BenchmarkRunStore restarted = store(file);
+
+        assertThat(restarted.find("run-1")).contains(run("run-1", 100));
+        assertThat(restarted.recent(10)).extracting(BenchmarkRun::id).containsExactly("run-2", "run-1");
+    }
+
+    @Test
+    void corruptLinesShouldBeSkippedOnLoad() throws Exception {
+        Path file = directory.resolve("benchmark-runs.jsonl");
+        BenchmarkRunStore store = store(file);
+        store.append(run("run-1", 100));
+        // 기록 도중 종료되어 잘린 줄과 빈 줄
+        Files.writeString(file, "{\"id\":\"run-2\",\"label\":\n\n", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        store.append(run("run-3", 300));
+
+        BenchmarkRunStore restarted = store(file);
+
+        assertThat(restarted.recent(10)).extracting(BenchmarkRun::id).containsExactly("run-3", "run-1");
+        assertThat(restarted.find("run-2")).isEmpty();
+    }
+
+    private BenchmarkRunStore store(Path file) throws Exception {
+        BenchmarkRunStore store = new BenchmarkRunStore(new BenchmarkJobProperties(file, 100, 10), objectMapper);
+        store.load();
+        return store;
+    }
+
+    static BenchmarkRun run(String id, double throughputPerSecond) {
+        PhaseResult phase = new PhaseResult(100, 1000, throughputPerSecond, 10, 20, 30, 40);
+        Instant startedAt = Instant.parse("2026-01-01T00:00:00Z");
+        return new BenchmarkRun(id, "test", new BenchmarkConfig(100, 10, 10, "test"), startedAt,
+                startedAt.plusSeconds(1), Map.of("concurrent", phase), Map.of("backend", "sleep"));
+    }
+}
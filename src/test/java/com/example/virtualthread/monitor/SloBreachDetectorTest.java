@@ -0,0 +1,84 @@
+package com.example.virtualthread.monitor;
+
+import com.example.virtualthread.config.JfrRecorderProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class SloBreachDetectorTest {
+
+    private static final String ENDPOINT = "/api/v1/tasks/complex";
+    private static final int MIN_REQUESTS = 10;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ContinuousJfrRecorder recorder = mock(ContinuousJfrRecorder.class);
+
+    @Test
+    void slowRequestsPastMinRequestsShouldDumpOncePerCooldown() throws Exception {
+        SloBreachDetector detector = detector(Duration.ofMillis(1));
+
+        // minRequests 전에는 모두 느려도 판정하지 않음
+        observe(detector, MIN_REQUESTS - 1);
+        verify(recorder, after(200).never()).dump("slo-breach");
+
+        // minRequests에 도달한 뒤 계속 위반해도 쿨다운 동안 덤프는 한 번
+        observe(detector, 1);
+        verify(recorder, timeout(1000)).dump("slo-breach");
+        observe(detector, 20);
+        verify(recorder, after(200).times(1)).dump("slo-breach");
+        assertThat(meterRegistry.get("jfr.slo.breaches").tag("endpoint", ENDPOINT).counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void requestsWithinTargetShouldNotDump() throws Exception {
+        SloBreachDetector detector = detector(Duration.ofMinutes(1));
+
+        observe(detector, MIN_REQUESTS * 3);
+
+        verify(recorder, after(200).never()).dump("slo-breach");
+        assertThat(meterRegistry.get("jfr.slo.breaches").tag("endpoint", ENDPOINT).counter().count())
+                .isZero();
+    }
+
+    private SloBreachDetector detector(Duration target) {
+        JfrRecorderProperties.Slo slo = new JfrRecorderProperties.Slo(true, Map.of(ENDPOINT, target), 0.01,
+                Duration.ofSeconds(60), MIN_REQUESTS, Duration.ofMinutes(5));
+        JfrRecorderProperties properties = new JfrRecorderProperties(true, "default", Map.of(),
+                Duration.ofMinutes(10), DataSize.ofMegabytes(256), "build/test-jfr-dumps", 20, slo);
+        return new SloBreachDetector(properties, recorder, meterRegistry);
+    }
+
+    /**
+     * 요청 count개를 동시에 시작하고 목표(1ms) 이상 지난 뒤 모두 종료
+     */
+    private static void observe(SloBreachDetector detector, int count) throws InterruptedException {
+        List<ServerRequestObservationContext> contexts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ServerRequestObservationContext context = new ServerRequestObservationContext(
+                    new MockHttpServletRequest("GET", ENDPOINT), new MockHttpServletResponse());
+            context.setPathPattern(ENDPOINT);
+            assertThat(detector.supportsContext(context)).isTrue();
+            detector.onStart(context);
+            contexts.add(context);
+        }
+        Thread.sleep(5);
+        contexts.forEach(detector::onStop);
+    }
+}
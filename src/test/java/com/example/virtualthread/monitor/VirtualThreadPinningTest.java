@@ -0,0 +1,61 @@
+package com.example.virtualthread.monitor;
+
+import com.example.virtualthread.service.TaskService;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class VirtualThreadPinningTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Test
+    void directVirtualThreadsShouldNotPinCarrier() throws Exception {
+        List<RecordedEvent> pinned = new CopyOnWriteArrayList<>();
+
+        try (RecordingStream stream = new RecordingStream()) {
+            stream.enable(VirtualThreadPinningMonitor.PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            stream.onEvent(VirtualThreadPinningMonitor.PINNED_EVENT, pinned::add);
+            stream.startAsync();
+
+            taskService.createVirtualThreadsDirectly(100, 20);
+
+            // 감지 대조군 - synchronized 안에서 블로킹하면 반드시 pinning 이벤트가 발생해야 한다
+            Object lock = new Object();
+            Thread.ofVirtual().start(() -> {
+                synchronized (lock) {
+                    try {
+                        Thread.sleep(20);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }).join();
+
+            stream.stop();
+        }
+
+        assertThat(pinned).filteredOn(event -> hasFrameOf(event, VirtualThreadPinningTest.class)).isNotEmpty();
+        assertThat(pinned).filteredOn(event -> hasFrameOf(event, TaskService.class)).isEmpty();
+    }
+
+    private static boolean hasFrameOf(RecordedEvent event, Class<?> type) {
+        if (event.getStackTrace() == null) {
+            return false;
+        }
+        return event.getStackTrace().getFrames().stream()
+                .map(RecordedFrame::getMethod)
+                .anyMatch(method -> method.getType().getName().startsWith(type.getName()));
+    }
+}
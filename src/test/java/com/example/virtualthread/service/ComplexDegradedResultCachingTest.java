@@ -0,0 +1,93 @@
+package com.example.virtualthread.service;
+
+import com.example.virtualthread.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "virtual-thread.bulkheads.instances.db.max-concurrent=1",
+                "virtual-thread.bulkheads.instances.db.max-wait=0ms",
+                "virtual-thread.complex-cache.negative-ttl=200ms",
+                "virtual-thread.db-batch.base-latency=10ms",
+                "virtual-thread.external-api.latency.base=10ms",
+                "virtual-thread.backend.file-latency=10ms"
+        })
+class ComplexDegradedResultCachingTest {
+
+    private static final int TASK_ID = 9001;
+    private static final int HTTP_TASK_ID = 9002;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ComplexResultCache complexResultCache;
+
+    @Autowired
+    private BulkheadRegistry bulkheads;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void degradedResultShouldBeCachedOnlyForNegativeTtl() throws Exception {
+        double missesBefore = requests("miss");
+
+        // 테스트가 db 슬롯 하나를 점유한 동안 실행 - db 단계가 즉시 거절되어 부분 결과
+        CompletableFuture<String> degraded = bulkheads.execute("db", () -> {
+            CompletableFuture<String> result = complexResultCache.get(TASK_ID);
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasRootCauseInstanceOf(DegradedResultException.class);
+            return result;
+        });
+        assertThat(degraded).isCompletedExceptionally();
+        assertThat(complexResultCache.get(TASK_ID)).isCompletedExceptionally();
+        assertThat(requests("negative-hit")).isGreaterThanOrEqualTo(1);
+
+        // db가 회복된 뒤 negativeTtl이 지나면 작업을 다시 실행하여 정상 결과를 얻음
+        Thread.sleep(300);
+        String recovered = complexResultCache.get(TASK_ID).get(5, TimeUnit.SECONDS);
+
+        assertThat(recovered).contains("DB-Query-Success").doesNotContain("Error");
+        assertThat(requests("miss") - missesBefore).isEqualTo(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void degradedResultShouldBeServedAs503WithPartialResult() throws Exception {
+        String url = "http://localhost:" + port + "/api/v1/tasks/complex?taskId=" + HTTP_TASK_ID;
+
+        ResponseEntity<Map> response = bulkheads.execute("db", () -> restTemplate.getForEntity(url, Map.class));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getBody().get("reason")).isEqualTo("DEGRADED");
+        assertThat((List<String>) response.getBody().get("failedStages")).containsExactly("db");
+        assertThat((String) response.getBody().get("partialResult"))
+                .contains("DB-Query-Error", "API-Call-Success", "File-Op-Success");
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("complex.cache.requests").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.virtualthread.service;
+
+import com.example.virtualthread.config.ComplexCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ComplexResultCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TaskService taskService = mock(TaskService.class);
+
+    @Test
+    void successfulResultShouldExpireAfterTtl() throws Exception {
+        ComplexResultCache cache = cache(Duration.ofMillis(100), Duration.ofSeconds(10));
+        when(taskService.complexBlockingOperation(7)).thenReturn(CompletableFuture.completedFuture("result"));
+
+        assertThat(cache.get(7).get()).isEqualTo("result");
+        assertThat(cache.get(7).get()).isEqualTo("result");
+        verify(taskService, times(1)).complexBlockingOperation(7);
+        assertThat(requests("hit")).isEqualTo(1);
+
+        Thread.sleep(150);
+
+        assertThat(cache.get(7).get()).isEqualTo("result");
+        verify(taskService, times(2)).complexBlockingOperation(7);
+        assertThat(requests("miss")).isEqualTo(2);
+    }
+
+    @Test
+    void failureShouldBeCachedOnlyForNegativeTtl() throws Exception {
+        ComplexResultCache cache = cache(Duration.ofSeconds(30), Duration.ofMillis(100));
+        when(taskService.complexBlockingOperation(8))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("down")))
+                .thenReturn(CompletableFuture.completedFuture("recovered"));
+
+        assertThat(cache.get(8)).isCompletedExceptionally();
+        // negativeTtl 안에서는 실패를 그대로 돌려주고 작업을 다시 실행하지 않음
+        assertThat(cache.get(8)).isCompletedExceptionally();
+        verify(taskService, times(1)).complexBlockingOperation(8);
+        assertThat(requests("negative-hit")).isEqualTo(1);
+
+        Thread.sleep(150);
+
+        assertThat(cache.get(8).get()).isEqualTo("recovered");
+        verify(taskService, times(2)).complexBlockingOperation(8);
+    }
+
+    private ComplexResultCache cache(Duration ttl, Duration negativeTtl) {
+        return new ComplexResultCache(taskService, new ComplexCacheProperties(true, 100, ttl, negativeTtl), meterRegistry);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("complex.cache.requests").tag("result", result).counter().count();
+    }
+}
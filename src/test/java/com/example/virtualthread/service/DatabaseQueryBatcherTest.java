@@ -0,0 +1,130 @@
+package com.example.virtualthread.service;
+
+import com.example.virtualthread.backend.StageBackend;
+import com.example.virtualthread.config.DatabaseBatchProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DatabaseQueryBatcherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcurrentLinkedQueue<Integer> batchSizes = new ConcurrentLinkedQueue<>();
+    private DatabaseQueryBatcher batcher;
+
+    @AfterEach
+    void stopBatcher() {
+        batcher.stop();
+    }
+
+    @Test
+    void concurrentQueriesShouldCollapseIntoFullBatches() throws Exception {
+        int queries = 250;
+        batcher = startBatcher(100, Duration.ofMillis(500));
+
+        // 모든 조회가 첫 배치의 maxWait 안에 도착하므로 ceil(250 / 100) = 3번 왕복
+        List<CompletableFuture<String>> results = queryConcurrently(queries);
+        for (CompletableFuture<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("DB-Query-Success");
+        }
+
+        assertThat(meterRegistry.get("db.batch.round-trips").counter().count()).isEqualTo(3);
+        assertThat(batchSizes).containsExactlyInAnyOrder(100, 100, 50);
+    }
+
+    @Test
+    void maxWaitShouldFlushPartialBatch() throws Exception {
+        batcher = startBatcher(100, Duration.ofMillis(50));
+
+        long startNanos = System.nanoTime();
+        List<CompletableFuture<String>> results = queryConcurrently(3);
+        for (CompletableFuture<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("DB-Query-Success");
+        }
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)).isLessThan(1000);
+        assertThat(batchSizes).containsExactly(3);
+    }
+
+    @Test
+    void stopShouldFailQueriesStillWaitingForBatch() throws Exception {
+        batcher = startBatcher(100, Duration.ofSeconds(30));
+
+        CompletableFuture<String> result = queryConcurrently(1).get(0);
+        Thread.sleep(100);
+        batcher.stop();
+
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> batcher.query(2)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private DatabaseQueryBatcher startBatcher(int maxBatchSize, Duration maxWait) {
+        DatabaseQueryBatcher started = new DatabaseQueryBatcher(
+                new DatabaseBatchProperties(true, maxBatchSize, maxWait, Duration.ZERO, Duration.ZERO, Duration.ofSeconds(5)),
+                new RecordingBackend(), meterRegistry);
+        started.start();
+        return started;
+    }
+
+    private List<CompletableFuture<String>> queryConcurrently(int queries) {
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < queries; i++) {
+            int taskId = i;
+            CompletableFuture<String> result = new CompletableFuture<>();
+            Thread.ofVirtual().start(() -> {
+                try {
+                    start.await();
+                    result.complete(batcher.query(taskId));
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+            results.add(result);
+        }
+        start.countDown();
+        return results;
+    }
+
+    /**
+     * 배치 크기만 기록하는 백엔드
+     */
+    private final class RecordingBackend implements StageBackend {
+
+        @Override
+        public String mode() {
+            return "test";
+        }
+
+        @Override
+        public void blockingCall(int taskId, long latencyMillis) {
+        }
+
+        @Override
+        public void queryBatch(List<Integer> taskIds, long latencyMillis) {
+            batchSizes.add(taskIds.size());
+        }
+
+        @Override
+        public void callApi(int taskId, long latencyMillis) {
+        }
+
+        @Override
+        public void fileOperation(int taskId) {
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.virtualthread.service;
+
+import com.example.virtualthread.backend.StageBackend;
+import com.example.virtualthread.bulkhead.BulkheadRegistry;
+import com.example.virtualthread.config.BulkheadProperties;
+import com.example.virtualthread.config.ExternalApiProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HedgedExternalApiClientTest {
+
+    private static final Duration HEDGE_DELAY = Duration.ofMillis(50);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void slowPrimaryShouldBeHedgedAndCancelledWhenHedgeWins() throws Exception {
+        ScriptedBackend backend = new ScriptedBackend(List.of(5_000L, 0L));
+        HedgedExternalApiClient client = client(backend, 100, 10);
+
+        long startNanos = System.nanoTime();
+        assertThat(client.call(1)).isEqualTo("API-Call-Success");
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)).isLessThan(2_000);
+        assertThat(backend.interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(hedges("sent")).isEqualTo(1);
+        assertThat(hedges("won")).isEqualTo(1);
+        assertThat(hedges("cancelled")).isZero();
+    }
+
+    @Test
+    void hedgeShouldBeCancelledWhenPrimaryFinishesFirst() throws Exception {
+        ScriptedBackend backend = new ScriptedBackend(List.of(200L, 5_000L));
+        HedgedExternalApiClient client = client(backend, 100, 10);
+
+        assertThat(client.call(1)).isEqualTo("API-Call-Success");
+
+        assertThat(backend.interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(hedges("sent")).isEqualTo(1);
+        assertThat(hedges("won")).isZero();
+        assertThat(hedges("cancelled")).isEqualTo(1);
+    }
+
+    @Test
+    void exhaustedBudgetShouldSkipHedge() throws Exception {
+        // 1차 호출 하나당 10%만 적립되므로 첫 호출에서는 헤지할 예산이 없음
+        ScriptedBackend backend = new ScriptedBackend(List.of(200L));
+        HedgedExternalApiClient client = client(backend, 10, 10);
+
+        assertThat(client.call(1)).isEqualTo("API-Call-Success");
+
+        assertThat(backend.calls.get()).isEqualTo(1);
+        assertThat(hedges("sent")).isZero();
+        assertThat(hedges("budget-exhausted")).isEqualTo(1);
+    }
+
+    @Test
+    void hedgeShouldNeedItsOwnBulkheadSlot() throws Exception {
+        // 호출자가 유일한 api 슬롯을 쥔 상태 - 헤지는 슬롯을 얻지 못해 발송되지 않고 예산을 돌려받음
+        ScriptedBackend backend = new ScriptedBackend(List.of(200L, 0L));
+        BulkheadRegistry bulkheads = bulkheads(1);
+        HedgedExternalApiClient client = client(backend, bulkheads, 100);
+
+        String result = bulkheads.execute("api", () -> client.call(1));
+
+        assertThat(result).isEqualTo("API-Call-Success");
+        assertThat(backend.calls.get()).isEqualTo(1);
+        assertThat(hedges("bulkhead-rejected")).isEqualTo(1);
+        assertThat(hedges("won")).isZero();
+        assertThat(hedges("cancelled")).isZero();
+    }
+
+    private HedgedExternalApiClient client(StageBackend backend, int budgetPercent, int apiSlots) {
+        return client(backend, bulkheads(apiSlots), budgetPercent);
+    }
+
+    private HedgedExternalApiClient client(StageBackend backend, BulkheadRegistry bulkheads, int budgetPercent) {
+        ExternalApiProperties properties = new ExternalApiProperties(
+                new ExternalApiProperties.Latency(ExternalApiProperties.Distribution.FIXED,
+                        Duration.ofMillis(100), 0.5, 0.05, Duration.ofSeconds(8)),
+                // minSamples를 크게 두어 항상 initialDelay 뒤에 헤지
+                new ExternalApiProperties.Hedge(true, 0.95, HEDGE_DELAY, Duration.ofMillis(10), 1_000_000,
+                        budgetPercent));
+        return new HedgedExternalApiClient(properties, backend, bulkheads, meterRegistry);
+    }
+
+    private BulkheadRegistry bulkheads(int apiSlots) {
+        BulkheadProperties.Spec spec = new BulkheadProperties.Spec(apiSlots, Duration.ZERO,
+                BulkheadProperties.Adaptive.NONE, 1, 1000, Duration.ofSeconds(5), 0.9);
+        return new BulkheadRegistry(new BulkheadProperties(Map.of("api", spec)), meterRegistry);
+    }
+
+    private double hedges(String result) {
+        return meterRegistry.get("api.hedge.requests").tag("result", result).counter().count();
+    }
+
+    /**
+     * 호출 순서대로 정해진 지연을 적용하고, 인터럽트로 취소된 호출을 기록하는 백엔드
+     */
+    private static final class ScriptedBackend implements StageBackend {
+
+        private final List<Long> latencies;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+
+        private ScriptedBackend(List<Long> latencies) {
+            this.latencies = latencies;
+        }
+
+        @Override
+        public String mode() {
+            return "test";
+        }
+
+        @Override
+        public void blockingCall(int taskId, long latencyMillis) {
+        }
+
+        @Override
+        public void queryBatch(List<Integer> taskIds, long latencyMillis) {
+        }
+
+        @Override
+        public void callApi(int taskId, long latencyMillis) throws InterruptedException {
+            long scripted = latencies.get(calls.getAndIncrement());
+            try {
+                Thread.sleep(scripted);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+        }
+
+        @Override
+        public void fileOperation(int taskId) {
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.virtualthread.service;
+
+import com.example.virtualthread.config.TaskRegistryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskRegistryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void fullRegistryShouldKeepLongRunningTasksAndStopTrackingNewOnes() {
+        TaskRegistry registry = new TaskRegistry(new TaskRegistryProperties(2, Duration.ofMinutes(10)), meterRegistry);
+
+        TaskRegistry.Registration first = registry.register(1, TaskKind.SYNC);
+        TaskRegistry.Registration second = registry.register(2, TaskKind.SYNC);
+        TaskRegistry.Registration third = registry.register(3, TaskKind.SYNC);
+        TaskRegistry.Registration fourth = registry.register(4, TaskKind.SYNC);
+
+        assertThat(first.tracked()).isTrue();
+        assertThat(third.tracked()).isFalse();
+        assertThat(fourth.tracked()).isFalse();
+        assertThat(registry.find(null, 0, 0, 10).items())
+                .extracting(TaskRegistry.TaskSnapshot::taskId)
+                .containsExactly(1, 2);
+        assertThat(meterRegistry.get("tasks.registry.untracked").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("tasks.registry.evicted").counter().count()).isZero();
+
+        // 추적하지 않은 핸들을 닫아도 기존 항목에 영향 없음
+        third.close();
+        assertThat(registry.size()).isEqualTo(2);
+
+        second.close();
+        assertThat(registry.register(5, TaskKind.SYNC).tracked()).isTrue();
+    }
+
+    @Test
+    void concurrentRegistrationsShouldNotOvershootCapacity() throws Exception {
+        int capacity = 100;
+        int registrations = 5_000;
+        TaskRegistry registry = new TaskRegistry(
+                new TaskRegistryProperties(capacity, Duration.ofMinutes(10)), meterRegistry);
+
+        // 모든 가상 스레드가 래치에서 함께 출발하여 용량 검사와 삽입이 최대한 겹치게 함
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<TaskRegistry.Registration>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < registrations; i++) {
+                int taskId = i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return registry.register(taskId, TaskKind.PARALLEL);
+                }));
+            }
+            start.countDown();
+        }
+
+        List<TaskRegistry.Registration> handles = new ArrayList<>();
+        for (Future<TaskRegistry.Registration> result : results) {
+            handles.add(result.get(5, TimeUnit.SECONDS));
+        }
+        assertThat(registry.size()).isEqualTo(capacity);
+        assertThat(handles).filteredOn(TaskRegistry.Registration::tracked).hasSize(capacity);
+        assertThat(meterRegistry.get("tasks.registry.untracked").counter().count())
+                .isEqualTo(registrations - capacity);
+
+        // 닫으면 슬롯이 반납되어 다시 등록 가능
+        handles.forEach(TaskRegistry.Registration::close);
+        assertThat(registry.size()).isZero();
+        assertThat(registry.register(1, TaskKind.SYNC).tracked()).isTrue();
+    }
+
+    @Test
+    void fullRegistryShouldEvictOnlyStaleEntries() throws InterruptedException {
+        TaskRegistry registry = new TaskRegistry(new TaskRegistryProperties(2, Duration.ofMillis(1)), meterRegistry);
+
+        registry.register(1, TaskKind.SYNC);
+        registry.register(2, TaskKind.SYNC);
+        Thread.sleep(5);
+
+        TaskRegistry.Registration third = registry.register(3, TaskKind.SYNC);
+
+        assertThat(third.tracked()).isTrue();
+        assertThat(registry.find(null, 0, 0, 10).items())
+                .extracting(TaskRegistry.TaskSnapshot::taskId)
+                .containsExactly(3);
+        assertThat(meterRegistry.get("tasks.registry.evicted").counter().count()).isEqualTo(2);
+    }
+}